@@ -0,0 +1,152 @@
+package com.bugtracker.app.benchmark;
+
+import com.bugtracker.app.dto.TicketDto;
+import com.bugtracker.app.entity.Project;
+import com.bugtracker.app.entity.Ticket;
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
+import com.bugtracker.app.entity.User;
+import com.bugtracker.app.repository.projection.IdPair;
+import com.bugtracker.app.repository.projection.TicketSummary;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Deterministic in-memory fixtures shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final TicketStatus[] STATUSES = TicketStatus.values();
+    private static final TicketPriority[] PRIORITIES = TicketPriority.values();
+    private static final TicketType[] TYPES = TicketType.values();
+    private static final int USER_COUNT = 20;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Returns a repository stub answering each named method with a fixed value (or a supplied one). A plain dynamic
+     * proxy keeps per-call overhead far below that of a mocking framework.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> repositoryType, Map<String, Object> results) {
+        return (T) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    if (!results.containsKey(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    Object result = results.get(method.getName());
+                    // Suppliers give a fresh value per call, e.g. for Stream results that can only be read once
+                    return result instanceof Supplier<?> supplier ? supplier.get() : result;
+                });
+    }
+
+    static List<Ticket> tickets(int count) {
+        Project project = new Project();
+        project.setId(1L);
+        project.setName("Benchmark project");
+
+        List<User> users = new ArrayList<>();
+        for (long i = 1; i <= USER_COUNT; i++) {
+            User user = new User();
+            user.setId(i);
+            user.setEmail("user" + i + "@bugtracker.com");
+            user.setFirstName("First" + i);
+            user.setLastName("Last" + i);
+            users.add(user);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Ticket> tickets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setId((long) i + 1);
+            ticket.setTitle("Ticket " + i);
+            ticket.setDescription("Description of benchmark ticket " + i);
+            ticket.setProject(project);
+            ticket.setCreatedBy(users.get(i % USER_COUNT));
+            ticket.setStatus(STATUSES[i % STATUSES.length]);
+            ticket.setPriority(PRIORITIES[i % PRIORITIES.length]);
+            ticket.setType(TYPES[i % TYPES.length]);
+            ticket.setTimeEstimate(i % 16);
+            ticket.setCreatedAt(now);
+            ticket.setUpdatedAt(now);
+            ticket.getAssignedDevelopers().add(users.get((i + 1) % USER_COUNT));
+            ticket.getAssignedDevelopers().add(users.get((i + 2) % USER_COUNT));
+            tickets.add(ticket);
+        }
+        return tickets;
+    }
+
+    static List<TicketSummary> summaries(List<Ticket> tickets) {
+        return tickets.stream().<TicketSummary>map(SummaryRow::new).toList();
+    }
+
+    static List<IdPair> assignments(List<Ticket> tickets) {
+        List<IdPair> pairs = new ArrayList<>();
+        for (Ticket ticket : tickets) {
+            for (User user : ticket.getAssignedDevelopers()) {
+                pairs.add(new PairRow(ticket.getId(), user.getId()));
+            }
+        }
+        return pairs;
+    }
+
+    static List<TicketDto> dtos(List<Ticket> tickets) {
+        List<TicketDto> dtos = new ArrayList<>(tickets.size());
+        for (Ticket ticket : tickets) {
+            TicketDto dto = new TicketDto();
+            dto.setId(ticket.getId());
+            dto.setTitle(ticket.getTitle());
+            dto.setDescription(ticket.getDescription());
+            dto.setProjectId(ticket.getProject().getId());
+            dto.setProjectName(ticket.getProject().getName());
+            dto.setCreatedById(ticket.getCreatedBy().getId());
+            dto.setCreatedByName(ticket.getCreatedBy().getFullName());
+            dto.setPriority(ticket.getPriority());
+            dto.setStatus(ticket.getStatus());
+            dto.setType(ticket.getType());
+            dto.setTimeEstimate(ticket.getTimeEstimate());
+            dto.setCreatedAt(ticket.getCreatedAt());
+            dto.setUpdatedAt(ticket.getUpdatedAt());
+            dto.setAssignedDeveloperIds(Set.of(ticket.getId() % USER_COUNT + 1, ticket.getId() % USER_COUNT + 2));
+            dto.setCommentCount((int) (ticket.getId() % 7));
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    private record PairRow(Long getOwnerId, Long getMemberId) implements IdPair {
+    }
+
+    private static final class SummaryRow implements TicketSummary {
+        private final Ticket ticket;
+
+        SummaryRow(Ticket ticket) {
+            this.ticket = ticket;
+        }
+
+        public Long getId() { return ticket.getId(); }
+        public String getTitle() { return ticket.getTitle(); }
+        public String getDescription() { return ticket.getDescription(); }
+        public Long getProjectId() { return ticket.getProject().getId(); }
+        public String getProjectName() { return ticket.getProject().getName(); }
+        public Long getCreatedById() { return ticket.getCreatedBy().getId(); }
+        public String getCreatedByFirstName() { return ticket.getCreatedBy().getFirstName(); }
+        public String getCreatedByLastName() { return ticket.getCreatedBy().getLastName(); }
+        public TicketPriority getPriority() { return ticket.getPriority(); }
+        public TicketStatus getStatus() { return ticket.getStatus(); }
+        public TicketType getType() { return ticket.getType(); }
+        public Integer getTimeEstimate() { return ticket.getTimeEstimate(); }
+        public LocalDateTime getCreatedAt() { return ticket.getCreatedAt(); }
+        public LocalDateTime getUpdatedAt() { return ticket.getUpdatedAt(); }
+        public Integer getCommentCount() { return ticket.getCommentCount(); }
+    }
+}
@@ -0,0 +1,177 @@
+package com.bugtracker.app.benchmark;
+
+import com.bugtracker.app.entity.id.PooledSequence;
+import com.bugtracker.app.entity.id.PooledSequenceGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.*;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting tickets with their comments in one transaction, with IDENTITY ids (one INSERT per row,
+ * each followed by a generated-key read) versus pooled sequence ids (rows written in JDBC batches).
+ * Runs plain Hibernate with the application's batching settings against in-memory H2, so it
+ * measures the ORM and JDBC overhead of each strategy rather than database round trips; against
+ * PostgreSQL over a network the gap is wider.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityInsertBenchmark {
+
+    private static final int TICKETS_PER_TRANSACTION = 100;
+    private static final int COMMENTS_PER_TICKET = 3;
+    private static final String DESCRIPTION = "Steps to reproduce: open the dashboard, filter by project, "
+            + "sort by priority and page forward twice.";
+
+    public enum Strategy { IDENTITY, SEQUENCE }
+
+    @Param({"IDENTITY", "SEQUENCE"})
+    public Strategy strategy;
+
+    private HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:insert-benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(2);
+
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(IdentityTicket.class)
+                .addAnnotatedClass(IdentityComment.class)
+                .addAnnotatedClass(SequenceTicket.class)
+                .addAnnotatedClass(SequenceComment.class)
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(PooledSequenceGenerator.ALLOCATION_SIZE_SETTING, "50");
+        configuration.getProperties().put(AvailableSettings.DATASOURCE, dataSource);
+        sessionFactory = configuration.buildSessionFactory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteRows() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            session.createMutationQuery("delete from IdentityComment").executeUpdate();
+            session.createMutationQuery("delete from IdentityTicket").executeUpdate();
+            session.createMutationQuery("delete from SequenceComment").executeUpdate();
+            session.createMutationQuery("delete from SequenceTicket").executeUpdate();
+            transaction.commit();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public void insertTicketsWithComments() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (int i = 0; i < TICKETS_PER_TRANSACTION; i++) {
+                if (strategy == Strategy.IDENTITY) {
+                    IdentityTicket ticket = new IdentityTicket("Ticket " + i);
+                    session.persist(ticket);
+                    for (int c = 0; c < COMMENTS_PER_TICKET; c++) {
+                        session.persist(new IdentityComment(ticket, "Comment " + c));
+                    }
+                } else {
+                    SequenceTicket ticket = new SequenceTicket("Ticket " + i);
+                    session.persist(ticket);
+                    for (int c = 0; c < COMMENTS_PER_TICKET; c++) {
+                        session.persist(new SequenceComment(ticket, "Comment " + c));
+                    }
+                }
+            }
+            transaction.commit();
+        }
+    }
+
+    @Entity(name = "IdentityTicket")
+    @Table(name = "identity_tickets")
+    public static class IdentityTicket {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        String title;
+        @Column(columnDefinition = "TEXT")
+        String description = DESCRIPTION;
+
+        protected IdentityTicket() {
+        }
+
+        IdentityTicket(String title) {
+            this.title = title;
+        }
+    }
+
+    @Entity(name = "IdentityComment")
+    @Table(name = "identity_comments")
+    public static class IdentityComment {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        @ManyToOne(fetch = FetchType.LAZY)
+        IdentityTicket ticket;
+        String content;
+
+        protected IdentityComment() {
+        }
+
+        IdentityComment(IdentityTicket ticket, String content) {
+            this.ticket = ticket;
+            this.content = content;
+        }
+    }
+
+    @Entity(name = "SequenceTicket")
+    @Table(name = "sequence_tickets")
+    public static class SequenceTicket {
+        @Id
+        @PooledSequence("sequence_tickets_seq")
+        Long id;
+        String title;
+        @Column(columnDefinition = "TEXT")
+        String description = DESCRIPTION;
+
+        protected SequenceTicket() {
+        }
+
+        SequenceTicket(String title) {
+            this.title = title;
+        }
+    }
+
+    @Entity(name = "SequenceComment")
+    @Table(name = "sequence_comments")
+    public static class SequenceComment {
+        @Id
+        @PooledSequence("sequence_comments_seq")
+        Long id;
+        @ManyToOne(fetch = FetchType.LAZY)
+        SequenceTicket ticket;
+        String content;
+
+        protected SequenceComment() {
+        }
+
+        SequenceComment(SequenceTicket ticket, String content) {
+            this.ticket = ticket;
+            this.content = content;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.bugtracker.app.benchmark;
+
+import com.bugtracker.app.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification cost, with and without the verified-token cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyThatIsLongEnoughForHmacSha256Signing";
+
+    private JwtTokenProvider cachingProvider;
+    private JwtTokenProvider verifyingProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachingProvider = provider(10_000);
+        verifyingProvider = provider(0);
+        token = cachingProvider.generateToken("user1@bugtracker.com");
+        cachingProvider.parseAndValidate(token);
+    }
+
+    private static JwtTokenProvider provider(long verifiedCacheMaxSize) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaxSize", verifiedCacheMaxSize);
+        provider.init();
+        return provider;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachingProvider.generateToken("user1@bugtracker.com");
+    }
+
+    @Benchmark
+    public Object parseAndVerify() {
+        return verifyingProvider.parseAndValidate(token);
+    }
+
+    @Benchmark
+    public Object parseCached() {
+        return cachingProvider.parseAndValidate(token);
+    }
+}
@@ -0,0 +1,73 @@
+package com.bugtracker.app.benchmark;
+
+import com.bugtracker.app.dto.TicketDto;
+import com.bugtracker.app.entity.Ticket;
+import com.bugtracker.app.repository.TicketRepository;
+import com.bugtracker.app.repository.projection.TicketSummary;
+import com.bugtracker.app.service.TicketService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Entity-to-DTO conversion in TicketService with repositories stubbed in memory, so only the
+ * mapping cost is measured: the per-entity path used for single tickets and the batched
+ * projection path used for lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TicketDtoMappingBenchmark {
+
+    @Param({"1000", "10000"})
+    public int ticketCount;
+
+    private TicketService ticketService;
+    private List<Ticket> tickets;
+    private MethodHandle convertEntity;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        tickets = BenchmarkData.tickets(ticketCount);
+        List<TicketSummary> summaries = BenchmarkData.summaries(tickets);
+
+        TicketRepository ticketRepository = BenchmarkData.stub(TicketRepository.class, Map.of(
+                "streamSummariesByProjectId", (Supplier<Stream<TicketSummary>>) summaries::stream,
+                "findAssignedDeveloperIds", BenchmarkData.assignments(tickets)));
+
+        ticketService = new TicketService();
+        ReflectionTestUtils.setField(ticketService, "ticketRepository", ticketRepository);
+
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(TicketService.class, MethodHandles.lookup());
+        convertEntity = lookup.findVirtual(TicketService.class, "convertToDto",
+                MethodType.methodType(TicketDto.class, Ticket.class));
+    }
+
+    @Benchmark
+    public List<TicketDto> entityPerRow() throws Throwable {
+        List<TicketDto> dtos = new ArrayList<>(tickets.size());
+        for (Ticket ticket : tickets) {
+            dtos.add((TicketDto) convertEntity.invoke(ticketService, ticket));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<TicketDto> batchedProjection() {
+        List<TicketDto> dtos = new ArrayList<>(ticketCount);
+        ticketService.streamTicketsByProjectId(1L, dtos::add);
+        return dtos;
+    }
+}
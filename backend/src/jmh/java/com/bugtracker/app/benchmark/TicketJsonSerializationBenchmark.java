@@ -0,0 +1,49 @@
+package com.bugtracker.app.benchmark;
+
+import com.bugtracker.app.dto.TicketDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialisation of TicketDto list responses, using the same ObjectMapper defaults
+ * Spring Boot applies to the REST controllers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TicketJsonSerializationBenchmark {
+
+    @Param({"1000", "10000"})
+    public int ticketCount;
+
+    private ObjectWriter writer;
+    private List<TicketDto> tickets;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, TicketDto.class));
+        tickets = BenchmarkData.dtos(BenchmarkData.tickets(ticketCount));
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws IOException {
+        return writer.writeValueAsBytes(tickets);
+    }
+
+    @Benchmark
+    public void writeToStream() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), tickets);
+    }
+}
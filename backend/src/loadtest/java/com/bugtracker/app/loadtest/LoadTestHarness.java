@@ -0,0 +1,234 @@
+package com.bugtracker.app.loadtest;
+
+import com.bugtracker.app.BugTrackerApplication;
+import com.bugtracker.app.security.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Boots the application in-process against an embedded H2 database (PostgreSQL mode), seeds a
+ * configurable data volume and drives the REST endpoints concurrently, one endpoint at a time.
+ * For each endpoint it reports p50/p99 latency, throughput and Hibernate statements per request.
+ *
+ * <p>Run with {@code mvn -Ploadtest test-compile exec:exec}; any {@code loadtest.*} property from
+ * application-loadtest.properties can be overridden with {@code -Dloadtest.args="--loadtest.requests=1000"}.
+ * Add {@code --spring.profiles.active=virtual-threads} (on Java 21) to compare request thread modes.
+ */
+public class LoadTestHarness {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestHarness.class);
+
+    public static void main(String[] args) throws Exception {
+        // DevTools would otherwise relaunch the app in a restart classloader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        SpringApplication application = new SpringApplication(BugTrackerApplication.class);
+        application.setAdditionalProfiles("loadtest");
+        String[] cleanArgs = Arrays.stream(args).filter(arg -> !arg.isBlank()).toArray(String[]::new);
+
+        try (ConfigurableApplicationContext context = application.run(cleanArgs)) {
+            Environment env = context.getEnvironment();
+            int users = env.getProperty("loadtest.users", Integer.class, 50);
+
+            log.info("Seeding data");
+            long seedStart = System.nanoTime();
+            LoadTestSeeder.SeededData data = new LoadTestSeeder(
+                    context.getBean(EntityManager.class),
+                    context.getBean(JdbcTemplate.class),
+                    context.getBean(TransactionTemplate.class),
+                    context.getBean(PasswordEncoder.class)
+            ).seed(users,
+                    env.getProperty("loadtest.projects", Integer.class, 20),
+                    env.getProperty("loadtest.tickets-per-project", Integer.class, 200),
+                    Math.min(env.getProperty("loadtest.assignees-per-ticket", Integer.class, 2), users),
+                    env.getProperty("loadtest.comments-per-ticket", Integer.class, 3));
+            log.info("Seeded {} users, {} projects, {} tickets in {} ms", data.userIds().size(),
+                    data.projectIds().size(), data.ticketIds().size(), (System.nanoTime() - seedStart) / 1_000_000);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String token = context.getBean(JwtTokenProvider.class).generateToken("loadtest0@bugtracker.com");
+            Statistics statistics = context.getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactory.class).getStatistics();
+
+            LoadTestHarness harness = new LoadTestHarness("http://localhost:" + port, token, statistics,
+                    env.getProperty("loadtest.concurrency", Integer.class, 16),
+                    env.getProperty("loadtest.requests", Integer.class, 400),
+                    env.getProperty("loadtest.warmup-requests", Integer.class, 50));
+
+            Long projectId = data.projectIds().get(0);
+            Long userId = data.userIds().get(1 % data.userIds().size());
+            Long ticketId = data.ticketIds().get(0);
+
+            Map<String, String> endpoints = new LinkedHashMap<>();
+            endpoints.put("GET /api/tickets", "/api/tickets");
+            endpoints.put("GET /api/tickets?limit=50", "/api/tickets?limit=50");
+            endpoints.put("GET /api/tickets/project/{id}", "/api/tickets/project/" + projectId);
+            endpoints.put("GET /api/tickets/user/{id}", "/api/tickets/user/" + userId);
+            endpoints.put("GET /api/tickets/{id}", "/api/tickets/" + ticketId);
+            endpoints.put("GET /api/tickets/stats", "/api/tickets/stats");
+            endpoints.put("GET /api/projects", "/api/projects");
+            endpoints.put("GET /api/projects/user/{id}", "/api/projects/user/" + userId);
+            endpoints.put("GET /api/projects/{id}", "/api/projects/" + projectId);
+            endpoints.put("GET /api/comments/ticket/{id}", "/api/comments/ticket/" + ticketId);
+            endpoints.put("GET /api/users", "/api/users");
+
+            // Optional subset by path template, e.g. loadtest.endpoints=/api/tickets/project/{id}
+            Set<String> only = StringUtils.commaDelimitedListToSet(env.getProperty("loadtest.endpoints", ""));
+            if (!only.isEmpty()) {
+                endpoints.keySet().removeIf(name -> !only.contains(name.substring(name.indexOf(' ') + 1)));
+            }
+
+            boolean virtualThreads = env.getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                    && Runtime.version().feature() >= 21;
+            log.info("Driving {} endpoint(s) with {} clients; request threads: {}", endpoints.size(),
+                    env.getProperty("loadtest.concurrency", Integer.class, 16), virtualThreads ? "virtual" : "platform");
+
+            List<EndpointResult> results = new ArrayList<>();
+            for (Map.Entry<String, String> endpoint : endpoints.entrySet()) {
+                results.add(harness.run(endpoint.getKey(), endpoint.getValue()));
+            }
+
+            log.info(String.format("%-32s %8s %10s %10s %10s %12s %8s",
+                    "endpoint", "requests", "p50 ms", "p99 ms", "req/s", "stmts/req", "errors"));
+            for (EndpointResult result : results) {
+                log.info(String.format("%-32s %8d %10.2f %10.2f %10.1f %12.1f %8d",
+                        result.endpoint(), result.requests(), result.p50Millis(), result.p99Millis(),
+                        result.throughputPerSecond(), result.statementsPerRequest(), result.errors()));
+            }
+
+            File report = new File(env.getProperty("loadtest.report", "target/loadtest-report.json"));
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report, results);
+            log.info("Report written to {}", report.getAbsolutePath());
+        }
+    }
+
+    private final String baseUrl;
+    private final String token;
+    private final Statistics statistics;
+    private final int concurrency;
+    private final int requests;
+    private final int warmupRequests;
+    private final HttpClient httpClient;
+
+    LoadTestHarness(String baseUrl, String token, Statistics statistics,
+                    int concurrency, int requests, int warmupRequests) {
+        this.baseUrl = baseUrl;
+        this.token = token;
+        this.statistics = statistics;
+        this.concurrency = concurrency;
+        this.requests = requests;
+        this.warmupRequests = warmupRequests;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    EndpointResult run(String name, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        drive(request, warmupRequests);
+
+        statistics.clear();
+        long start = System.nanoTime();
+        long[] latencies = new long[requests];
+        int errors = drive(request, requests, latencies);
+        long elapsed = System.nanoTime() - start;
+        long statements = statistics.getPrepareStatementCount();
+
+        Arrays.sort(latencies);
+        return new EndpointResult(name, requests,
+                percentile(latencies, 0.50) / 1_000_000.0,
+                percentile(latencies, 0.99) / 1_000_000.0,
+                requests / (elapsed / 1_000_000_000.0),
+                (double) statements / requests,
+                errors);
+    }
+
+    private int drive(HttpRequest request, int count) throws Exception {
+        return drive(request, count, new long[count]);
+    }
+
+    /**
+     * Issues {@code count} requests from {@code concurrency} workers and records each latency in
+     * nanoseconds. Returns the number of non-2xx or failed responses.
+     */
+    private int drive(HttpRequest request, int count, long[] latencies) throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < concurrency; w++) {
+                futures.add(workers.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < count) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 300) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - start;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdown();
+        }
+        return errors.get();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    record EndpointResult(String endpoint, int requests, double p50Millis, double p99Millis,
+                          double throughputPerSecond, double statementsPerRequest, int errors) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.bugtracker.app.loadtest;
+
+import com.bugtracker.app.entity.AuthorityLevel;
+import com.bugtracker.app.entity.Comment;
+import com.bugtracker.app.entity.Project;
+import com.bugtracker.app.entity.Ticket;
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
+import com.bugtracker.app.entity.User;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds a configurable volume of users, projects, tickets, assignments and comments. Each project
+ * is written in its own transaction (and so its own persistence context), so seeding memory stays
+ * flat regardless of volume.
+ */
+class LoadTestSeeder {
+
+    private static final TicketStatus[] STATUSES = TicketStatus.values();
+    private static final TicketPriority[] PRIORITIES = TicketPriority.values();
+    private static final TicketType[] TYPES = TicketType.values();
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    LoadTestSeeder(EntityManager entityManager, JdbcTemplate jdbcTemplate,
+                   TransactionTemplate transactionTemplate, PasswordEncoder passwordEncoder) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    SeededData seed(int userCount, int projectCount, int ticketsPerProject,
+                    int assigneesPerTicket, int commentsPerTicket) {
+        List<Long> userIds = transactionTemplate.execute(status -> {
+            // Hash once; every seeded user shares the same password
+            String password = passwordEncoder.encode("loadtest");
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < userCount; i++) {
+                User user = new User();
+                user.setEmail("loadtest" + i + "@bugtracker.com");
+                user.setPassword(password);
+                user.setFirstName("Load");
+                user.setLastName("Tester" + i);
+                user.setAuthorityLevel(i == 0 ? AuthorityLevel.ADMIN : AuthorityLevel.USER);
+                entityManager.persist(user);
+                ids.add(user.getId());
+            }
+            return ids;
+        });
+
+        List<Long> projectIds = new ArrayList<>();
+        List<Long> ticketIds = new ArrayList<>();
+        for (int p = 0; p < projectCount; p++) {
+            int projectIndex = p;
+            transactionTemplate.executeWithoutResult(status -> {
+                User creator = entityManager.getReference(User.class, userIds.get(projectIndex % userIds.size()));
+
+                Project project = new Project();
+                project.setName("Load test project " + projectIndex);
+                project.setDescription("Seeded by the load-test harness");
+                project.setCreatedBy(creator);
+                entityManager.persist(project);
+                projectIds.add(project.getId());
+
+                List<Object[]> assignments = new ArrayList<>();
+                for (int t = 0; t < ticketsPerProject; t++) {
+                    Ticket ticket = new Ticket();
+                    ticket.setTitle("Ticket " + t + " of project " + projectIndex);
+                    ticket.setDescription("Seeded ticket description " + t);
+                    ticket.setProject(project);
+                    ticket.setCreatedBy(entityManager.getReference(User.class, userIds.get(t % userIds.size())));
+                    ticket.setStatus(STATUSES[t % STATUSES.length]);
+                    ticket.setPriority(PRIORITIES[t % PRIORITIES.length]);
+                    ticket.setType(TYPES[t % TYPES.length]);
+                    ticket.setTimeEstimate(t % 16);
+                    entityManager.persist(ticket);
+                    ticketIds.add(ticket.getId());
+
+                    for (int a = 0; a < assigneesPerTicket; a++) {
+                        assignments.add(new Object[]{userIds.get((t + a) % userIds.size()), ticket.getId()});
+                    }
+                    for (int c = 0; c < commentsPerTicket; c++) {
+                        Comment comment = new Comment();
+                        comment.setContent("Seeded comment " + c);
+                        comment.setTicket(ticket);
+                        comment.setUser(entityManager.getReference(User.class, userIds.get(c % userIds.size())));
+                        entityManager.persist(comment);
+                    }
+                }
+                entityManager.flush();
+
+                List<Object[]> members = new ArrayList<>();
+                for (Long userId : userIds) {
+                    members.add(new Object[]{userId, project.getId()});
+                }
+                jdbcTemplate.batchUpdate("INSERT INTO user_projects (user_id, project_id) VALUES (?, ?)", members);
+                jdbcTemplate.batchUpdate("INSERT INTO dev_assignments (user_id, ticket_id) VALUES (?, ?)", assignments);
+            });
+        }
+        // Memberships and assignments were written with plain JDBC; drop anything cached before them
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        return new SeededData(userIds, projectIds, ticketIds);
+    }
+
+    record SeededData(List<Long> userIds, List<Long> projectIds, List<Long> ticketIds) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.bugtracker.app.config;
+
+import com.bugtracker.app.logging.MdcTaskDecorator;
+import com.bugtracker.app.metrics.RequestStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.CompositeTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Streamed responses (unpaged ticket lists, project exports) are written on this executor rather
+ * than on Spring's shared task executor, whose queue is unbounded. Each running stream holds a
+ * database connection, so the thread count is kept below the connection pool size and the rest of
+ * the pool stays available to ordinary requests. Streams beyond threads + queue capacity are
+ * refused with 429 (see GlobalExceptionHandler). Not exposed as a bean: an Executor bean would
+ * replace Spring Boot's applicationTaskExecutor.
+ */
+@Configuration
+public class AsyncMvcConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor streamingExecutor;
+
+    public AsyncMvcConfig(@Value("${streaming.threads}") int threads,
+                          @Value("${streaming.queue-capacity}") int queueCapacity,
+                          @Value("${db.pool.max-size}") int poolSize,
+                          MdcTaskDecorator mdcTaskDecorator,
+                          RequestStatementCounter requestStatementCounter,
+                          MeterRegistry meterRegistry) {
+        if (threads >= poolSize) {
+            throw new IllegalStateException("streaming.threads (" + threads
+                    + ") must be smaller than db.pool.max-size (" + poolSize + ")");
+        }
+        streamingExecutor = new ThreadPoolTaskExecutor();
+        streamingExecutor.setCorePoolSize(threads);
+        streamingExecutor.setMaxPoolSize(threads);
+        streamingExecutor.setQueueCapacity(queueCapacity);
+        streamingExecutor.setThreadNamePrefix("streaming-");
+        // The request's correlation id and SQL statement count follow the body onto the streaming thread
+        streamingExecutor.setTaskDecorator(new CompositeTaskDecorator(List.of(mdcTaskDecorator, requestStatementCounter)));
+        streamingExecutor.initialize();
+        new ExecutorServiceMetrics(streamingExecutor.getThreadPoolExecutor(), "streaming", Tags.empty())
+                .bindTo(meterRegistry);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamingExecutor.shutdown();
+    }
+}
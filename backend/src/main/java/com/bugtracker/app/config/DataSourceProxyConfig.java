@@ -0,0 +1,48 @@
+package com.bugtracker.app.config;
+
+import com.bugtracker.app.logging.SlowQueryListener;
+import com.bugtracker.app.metrics.RequestStatementCounter;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the DataSource in a datasource-proxy, so that every JDBC execution, including the
+ * JdbcTemplate statements that bypass Hibernate, is counted for the per-request statement metric
+ * and timed for the slow-query log. A zero slow-query threshold leaves out only the latter.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static RequestStatementCounter requestStatementCounter() {
+        return new RequestStatementCounter();
+    }
+
+    @Bean
+    public static BeanPostProcessor proxyDataSourceWrapper(
+            RequestStatementCounter requestStatementCounter,
+            @Value("${db.slow-query.threshold}") Duration threshold,
+            @Value("${db.slow-query.sample-rate}") double sampleRate) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(requestStatementCounter);
+                if (!threshold.isZero()) {
+                    builder.listener(new SlowQueryListener(threshold, sampleRate));
+                }
+                return builder.build();
+            }
+        };
+    }
+}
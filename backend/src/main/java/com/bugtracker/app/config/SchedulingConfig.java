@@ -0,0 +1,33 @@
+package com.bugtracker.app.config;
+
+import com.bugtracker.app.service.TicketCounterService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Duration;
+
+/**
+ * Background jobs. Registered here rather than with {@code @Scheduled} so that their intervals are
+ * read as durations ({@code 1h}) like the other properties.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    @Autowired
+    private TicketCounterService ticketCounterService;
+
+    @Value("${counters.reconcile-interval}")
+    private Duration counterReconcileInterval;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(new FixedDelayTask(ticketCounterService::reconcile,
+                counterReconcileInterval, counterReconcileInterval));
+    }
+}
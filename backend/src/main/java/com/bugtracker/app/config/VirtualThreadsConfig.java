@@ -0,0 +1,23 @@
+package com.bugtracker.app.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Guards the virtual-threads profile: Spring Boot silently ignores spring.threads.virtual.enabled
+ * below Java 21, which would leave the profile's smaller connection wait time in place on a
+ * platform thread pool.
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+    @PostConstruct
+    public void checkJavaVersion() {
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException("The virtual-threads profile needs Java 21 or later, running on "
+                    + Runtime.version());
+        }
+    }
+}
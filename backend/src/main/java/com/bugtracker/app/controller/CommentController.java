@@ -1,13 +1,16 @@
 package com.bugtracker.app.controller;
 
 import com.bugtracker.app.dto.CommentDto;
+import com.bugtracker.app.dto.CursorPage;
 import com.bugtracker.app.service.CommentService;
+import com.bugtracker.app.service.ContentVersionService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.List;
 
@@ -19,13 +22,34 @@ public class CommentController {
     @Autowired
     private CommentService commentService;
 
+    @Autowired
+    private ContentVersionService contentVersionService;
+
     @GetMapping("/ticket/{ticketId}")
-    public ResponseEntity<List<CommentDto>> getCommentsByTicketId(@PathVariable Long ticketId) {
+    public ResponseEntity<List<CommentDto>> getCommentsByTicketId(@PathVariable Long ticketId,
+                                                                  NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forTicket(ticketId))) {
+            return null;
+        }
         return ResponseEntity.ok(commentService.getCommentsByTicketId(ticketId));
     }
 
+    @GetMapping(value = "/ticket/{ticketId}", params = "limit")
+    public ResponseEntity<CursorPage<CommentDto>> getCommentsPageByTicketId(@PathVariable Long ticketId,
+                                                                            @RequestParam(required = false) String after,
+                                                                            @RequestParam int limit,
+                                                                            NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forTicket(ticketId))) {
+            return null;
+        }
+        return ResponseEntity.ok(commentService.getCommentsPageByTicketId(ticketId, after, limit));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<CommentDto> getCommentById(@PathVariable Long id) {
+    public ResponseEntity<CommentDto> getCommentById(@PathVariable Long id, NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forComment(id))) {
+            return null;
+        }
         return ResponseEntity.ok(commentService.getCommentById(id));
     }
 
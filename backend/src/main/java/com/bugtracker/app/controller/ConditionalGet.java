@@ -0,0 +1,50 @@
+package com.bugtracker.app.controller;
+
+import com.bugtracker.app.service.ContentVersionService.Version;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.util.Optional;
+
+/**
+ * Conditional GET support shared by the controllers. Responses get an ETag and Last-Modified and
+ * {@code Cache-Control: no-cache, private}, which lets browsers keep the body but makes them
+ * revalidate it every time (Spring Security's default is no-store, which disables revalidation).
+ */
+final class ConditionalGet {
+
+    private static final String REVALIDATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Returns true when the client's copy is still current. The 304 response is then complete and
+     * the handler should return {@code null} without building a body. An empty version (resource
+     * not found) is never "not modified", so the handler's normal 404 path runs.
+     */
+    static boolean notModified(NativeWebRequest request, Optional<Version> version) {
+        return version.isPresent() && notModified(request, version.get());
+    }
+
+    static boolean notModified(NativeWebRequest request, Version version) {
+        return notModified(request, version, null);
+    }
+
+    /**
+     * As above, for a response whose body depends on the given request headers. The {@code Vary}
+     * header is set before the check, so that a 304 carries it too.
+     */
+    static boolean notModified(NativeWebRequest request, Version version, String vary) {
+        HttpServletResponse response = request.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+            if (vary != null) {
+                response.setHeader(HttpHeaders.VARY, vary);
+            }
+        }
+        return request.checkNotModified(version.etag(), version.lastModified().toEpochMilli());
+    }
+}
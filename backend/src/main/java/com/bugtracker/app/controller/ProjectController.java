@@ -1,15 +1,29 @@
 package com.bugtracker.app.controller;
 
+import com.bugtracker.app.dto.CursorPage;
 import com.bugtracker.app.dto.ProjectDto;
+import com.bugtracker.app.dto.TicketImportResponse;
+import com.bugtracker.app.exception.ResourceNotFoundException;
+import com.bugtracker.app.service.ContentVersionService;
+import com.bugtracker.app.service.ProjectExportService;
 import com.bugtracker.app.service.ProjectService;
+import com.bugtracker.app.service.TicketImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -19,21 +33,81 @@ public class ProjectController {
     @Autowired
     private ProjectService projectService;
 
+    @Autowired
+    private ContentVersionService contentVersionService;
+
+    @Autowired
+    private ProjectExportService projectExportService;
+
+    @Autowired
+    private TicketImportService ticketImportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @GetMapping
-    public ResponseEntity<List<ProjectDto>> getAllProjects() {
+    public ResponseEntity<List<ProjectDto>> getAllProjects(NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forAll())) {
+            return null;
+        }
         return ResponseEntity.ok(projectService.getAllProjects());
     }
 
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<ProjectDto>> getProjectsPage(@RequestParam(required = false) String after,
+                                                                  @RequestParam int limit,
+                                                                  NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forAll())) {
+            return null;
+        }
+        return ResponseEntity.ok(projectService.getProjectsPage(after, limit));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectDto> getProjectById(@PathVariable Long id) {
+    public ResponseEntity<ProjectDto> getProjectById(@PathVariable Long id, NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forProject(id))) {
+            return null;
+        }
         return ResponseEntity.ok(projectService.getProjectById(id));
     }
 
+    @GetMapping("/{id}/export")
+    public ResponseEntity<StreamingResponseBody> exportProject(@PathVariable Long id,
+                                                               @RequestParam(defaultValue = "ndjson") String format,
+                                                               @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING,
+                                                                       required = false) String acceptEncoding,
+                                                               NativeWebRequest request) {
+        TicketExportWriter.Format exportFormat = TicketExportWriter.Format.parse(format);
+        // Checked here, before the response is committed, so that a missing project is still a 404
+        ContentVersionService.Version version = contentVersionService.forProject(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+        boolean gzip = TicketExportWriter.acceptsGzip(acceptEncoding);
+        if (ConditionalGet.notModified(request, gzip ? version.variant("gzip") : version, HttpHeaders.ACCEPT_ENCODING)) {
+            return null;
+        }
+        return TicketExportWriter.response(objectMapper, id, exportFormat, gzip,
+                action -> projectExportService.exportTickets(id, action));
+    }
+
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<ProjectDto>> getProjectsByUserId(@PathVariable Long userId) {
+    public ResponseEntity<List<ProjectDto>> getProjectsByUserId(@PathVariable Long userId, NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forAll())) {
+            return null;
+        }
         return ResponseEntity.ok(projectService.getProjectsByUserId(userId));
     }
 
+    @GetMapping(value = "/user/{userId}", params = "limit")
+    public ResponseEntity<CursorPage<ProjectDto>> getProjectsPageByUserId(@PathVariable Long userId,
+                                                                          @RequestParam(required = false) String after,
+                                                                          @RequestParam int limit,
+                                                                          NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forAll())) {
+            return null;
+        }
+        return ResponseEntity.ok(projectService.getProjectsPageByUserId(userId, after, limit));
+    }
+
     @PostMapping
     public ResponseEntity<ProjectDto> createProject(@Valid @RequestBody ProjectDto projectDto,
                                                      Authentication authentication) {
@@ -42,6 +116,21 @@ public class ProjectController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    // The file is the raw request body; a form content type would have Tomcat consume it as form parameters
+    @PostMapping(value = "/{id}/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<TicketImportResponse> importTickets(@PathVariable Long id,
+                                                              @RequestParam(defaultValue = "1") int resumeFrom,
+                                                              @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                              @RequestHeader(value = HttpHeaders.CONTENT_ENCODING,
+                                                                      required = false) String contentEncoding,
+                                                              InputStream body,
+                                                              Authentication authentication) throws IOException {
+        String format = MediaType.parseMediaType(contentType).getSubtype().equals("csv") ? "csv" : "ndjson";
+        InputStream input = "gzip".equalsIgnoreCase(contentEncoding) ? new GZIPInputStream(body, 64 * 1024) : body;
+        return ResponseEntity.ok(ticketImportService.importTickets(id, format, input, resumeFrom,
+                authentication.getName()));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ProjectDto> updateProject(@PathVariable Long id,
                                                      @Valid @RequestBody ProjectDto projectDto) {
@@ -0,0 +1,25 @@
+package com.bugtracker.app.controller;
+
+import com.bugtracker.app.dto.CursorPage;
+import com.bugtracker.app.dto.SearchHitDto;
+import com.bugtracker.app.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "*")
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<CursorPage<SearchHitDto>> search(@RequestParam String q,
+                                                           @RequestParam(required = false) Long projectId,
+                                                           @RequestParam(required = false) String after,
+                                                           @RequestParam(defaultValue = CursorPage.DEFAULT_SEARCH_LIMIT) int limit) {
+        return ResponseEntity.ok(searchService.searchTickets(q, projectId, after, limit));
+    }
+}
@@ -0,0 +1,26 @@
+package com.bugtracker.app.controller;
+
+import com.bugtracker.app.service.ProjectEventStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/stream")
+@CrossOrigin(origins = "*")
+public class StreamController {
+
+    @Autowired
+    private ProjectEventStream projectEventStream;
+
+    @GetMapping(value = "/projects/{projectId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamProjectEvents(@PathVariable Long projectId,
+                                                          @RequestParam(required = false) String version) {
+        // Not a ResourceNotFoundException: its JSON error body can't be written to an event-stream request
+        return projectEventStream.subscribe(projectId, version)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,51 @@
+package com.bugtracker.app.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes a JSON array element by element as a service hands the elements over, instead of
+ * collecting them into a list and serialising the whole body at once. The body is produced on
+ * the streaming executor (see AsyncMvcConfig) after the handler returns; once the first bytes are
+ * sent, a failure can only cut the response short, not turn it into an error status.
+ */
+final class StreamingJson {
+
+    private StreamingJson() {
+    }
+
+    static <T> ResponseEntity<StreamingResponseBody> array(ObjectMapper objectMapper, Class<T> elementType,
+                                                           Consumer<Consumer<T>> source) {
+        // Flushing after every element would send one chunk per element; the generator's buffer decides instead
+        ObjectWriter writer = objectMapper.writerFor(elementType).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            // Not closed on failure: closing would complete the array and hide the truncation
+            JsonGenerator generator = writer.createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            try {
+                generator.writeStartArray();
+                source.accept(element -> {
+                    try {
+                        writer.writeValue(generator, element);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+                generator.close();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+}
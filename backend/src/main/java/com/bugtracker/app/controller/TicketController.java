@@ -1,15 +1,23 @@
 package com.bugtracker.app.controller;
 
+import com.bugtracker.app.dto.CursorPage;
+import com.bugtracker.app.dto.TicketBatchRequest;
+import com.bugtracker.app.dto.TicketBatchResponse;
 import com.bugtracker.app.dto.TicketDto;
+import com.bugtracker.app.dto.TicketFilter;
+import com.bugtracker.app.dto.TicketStatsDto;
+import com.bugtracker.app.service.ContentVersionService;
+import com.bugtracker.app.service.TicketBatchService;
 import com.bugtracker.app.service.TicketService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/tickets")
@@ -19,24 +27,119 @@ public class TicketController {
     @Autowired
     private TicketService ticketService;
 
+    @Autowired
+    private TicketBatchService ticketBatchService;
+
+    @Autowired
+    private ContentVersionService contentVersionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @GetMapping
-    public ResponseEntity<List<TicketDto>> getAllTickets() {
-        return ResponseEntity.ok(ticketService.getAllTickets());
+    public ResponseEntity<StreamingResponseBody> getAllTickets(NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forAll())) {
+            return null;
+        }
+        return StreamingJson.array(objectMapper, TicketDto.class, ticketService::streamAllTickets);
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<TicketDto>> getTicketsPage(@RequestParam(required = false) String after,
+                                                                @RequestParam int limit,
+                                                                NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forAll())) {
+            return null;
+        }
+        return ResponseEntity.ok(ticketService.getTicketsPage(after, limit));
+    }
+
+    @GetMapping("/query")
+    public ResponseEntity<CursorPage<TicketDto>> queryTickets(@ModelAttribute TicketFilter filter,
+                                                              @RequestParam(defaultValue = "id") String sort,
+                                                              @RequestParam(defaultValue = "asc") String direction,
+                                                              @RequestParam(required = false) String after,
+                                                              @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit,
+                                                              NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forAll())) {
+            return null;
+        }
+        return ResponseEntity.ok(ticketService.queryTickets(filter, sort, direction, after, limit));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TicketStatsDto> getTicketStats(NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forAll())) {
+            return null;
+        }
+        return ResponseEntity.ok(ticketService.getTicketStats());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TicketDto> getTicketById(@PathVariable Long id) {
+    public ResponseEntity<TicketDto> getTicketById(@PathVariable Long id, NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forTicket(id))) {
+            return null;
+        }
         return ResponseEntity.ok(ticketService.getTicketById(id));
     }
 
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<TicketDto>> getTicketsByProjectId(@PathVariable Long projectId) {
-        return ResponseEntity.ok(ticketService.getTicketsByProjectId(projectId));
+    public ResponseEntity<StreamingResponseBody> getTicketsByProjectId(@PathVariable Long projectId,
+                                                                       NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forProject(projectId))) {
+            return null;
+        }
+        return StreamingJson.array(objectMapper, TicketDto.class,
+                action -> ticketService.streamTicketsByProjectId(projectId, action));
+    }
+
+    @GetMapping(value = "/project/{projectId}", params = "limit")
+    public ResponseEntity<CursorPage<TicketDto>> getTicketsPageByProjectId(@PathVariable Long projectId,
+                                                                           @RequestParam(required = false) String after,
+                                                                           @RequestParam int limit,
+                                                                           NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forProject(projectId))) {
+            return null;
+        }
+        return ResponseEntity.ok(ticketService.getTicketsPageByProjectId(projectId, after, limit));
+    }
+
+    @GetMapping("/project/{projectId}/stats")
+    public ResponseEntity<TicketStatsDto> getTicketStatsByProjectId(@PathVariable Long projectId,
+                                                                    NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forProject(projectId))) {
+            return null;
+        }
+        return ResponseEntity.ok(ticketService.getTicketStatsByProjectId(projectId));
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<TicketDto>> getTicketsByUserId(@PathVariable Long userId) {
-        return ResponseEntity.ok(ticketService.getTicketsByUserId(userId));
+    public ResponseEntity<StreamingResponseBody> getTicketsByUserId(@PathVariable Long userId,
+                                                                    NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forAll())) {
+            return null;
+        }
+        return StreamingJson.array(objectMapper, TicketDto.class,
+                action -> ticketService.streamTicketsByUserId(userId, action));
+    }
+
+    @GetMapping(value = "/user/{userId}", params = "limit")
+    public ResponseEntity<CursorPage<TicketDto>> getTicketsPageByUserId(@PathVariable Long userId,
+                                                                        @RequestParam(required = false) String after,
+                                                                        @RequestParam int limit,
+                                                                        NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forAll())) {
+            return null;
+        }
+        return ResponseEntity.ok(ticketService.getTicketsPageByUserId(userId, after, limit));
+    }
+
+    @GetMapping("/user/{userId}/stats")
+    public ResponseEntity<TicketStatsDto> getTicketStatsByUserId(@PathVariable Long userId, NativeWebRequest request) {
+        if (ConditionalGet.notModified(request, contentVersionService.forAll())) {
+            return null;
+        }
+        return ResponseEntity.ok(ticketService.getTicketStatsByUserId(userId));
     }
 
     @PostMapping
@@ -47,6 +150,13 @@ public class TicketController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<TicketBatchResponse> executeBatch(@Valid @RequestBody TicketBatchRequest request,
+                                                            Authentication authentication) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(ticketBatchService.execute(request.getOperations(), email));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TicketDto> updateTicket(@PathVariable Long id,
                                                    @Valid @RequestBody TicketDto ticketDto,
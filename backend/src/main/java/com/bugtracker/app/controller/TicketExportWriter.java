@@ -0,0 +1,173 @@
+package com.bugtracker.app.controller;
+
+import com.bugtracker.app.dto.CommentDto;
+import com.bugtracker.app.dto.TicketExportCsvRow;
+import com.bugtracker.app.dto.TicketExportDto;
+import com.bugtracker.app.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes a project export as CSV or NDJSON, one ticket at a time as the service hands them over,
+ * gzip-compressed when the client accepts it. Like {@link StreamingJson}, a failure after the first
+ * bytes can only cut the download short.
+ */
+final class TicketExportWriter {
+
+    enum Format {
+        CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+        NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+        private final String extension;
+        private final MediaType mediaType;
+
+        Format(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        static Format parse(String value) {
+            for (Format format : values()) {
+                if (format.extension.equals(value.toLowerCase(Locale.ROOT))) {
+                    return format;
+                }
+            }
+            throw new BadRequestException("Unsupported export format: " + value + " (use csv or ndjson)");
+        }
+    }
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .build();
+
+    private static final ObjectWriter CSV_WRITER = CSV_MAPPER
+            .writer(CSV_MAPPER.schemaFor(TicketExportCsvRow.class).withHeader())
+            .forType(TicketExportCsvRow.class);
+
+    private TicketExportWriter() {
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header allows gzip: listed (or covered by {@code *}) with a
+     * non-zero quality. An explicit {@code gzip;q=0} refuses it even when {@code *} is accepted.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                return quality(parts) > 0;
+            }
+            if (name.equals("*")) {
+                wildcard = quality(parts) > 0;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * The export response; the caller has already set {@code Vary: Accept-Encoding} and the version
+     * headers (see ConditionalGet), with a tag that tells the gzip body apart from the plain one.
+     */
+    static ResponseEntity<StreamingResponseBody> response(ObjectMapper objectMapper, Long projectId, Format format,
+                                                          boolean gzip,
+                                                          Consumer<Consumer<TicketExportDto>> source) {
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE) : outputStream;
+            try {
+                if (format == Format.CSV) {
+                    writeCsv(target, source);
+                } else {
+                    writeNdjson(objectMapper, target, source);
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("project-" + projectId + "-tickets." + format.extension).build().toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    // The writers below close (and so finish the gzip stream) only after the last ticket: a failed
+    // export must stay visibly truncated rather than end with a valid gzip trailer
+
+    private static void writeCsv(OutputStream target, Consumer<Consumer<TicketExportDto>> source) throws IOException {
+        SequenceWriter rows = CSV_WRITER.writeValues(target);
+        source.accept(ticket -> {
+            try {
+                rows.write(TicketExportCsvRow.ticket(ticket));
+                for (CommentDto comment : ticket.getComments()) {
+                    rows.write(TicketExportCsvRow.comment(comment));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        rows.close();
+    }
+
+    private static void writeNdjson(ObjectMapper objectMapper, OutputStream target,
+                                    Consumer<Consumer<TicketExportDto>> source) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(TicketExportDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = writer.createGenerator(target);
+        // Each ticket is terminated by a newline rather than separated by the default space
+        generator.setRootValueSeparator(null);
+        source.accept(ticket -> {
+            try {
+                writer.writeValue(generator, ticket);
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.close();
+    }
+}
@@ -1,5 +1,6 @@
 package com.bugtracker.app.controller;
 
+import com.bugtracker.app.dto.CursorPage;
 import com.bugtracker.app.dto.UserDto;
 import com.bugtracker.app.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +23,12 @@ public class UserController {
         return ResponseEntity.ok(userService.getAllUsers());
     }
 
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<UserDto>> getUsersPage(@RequestParam(required = false) String after,
+                                                            @RequestParam int limit) {
+        return ResponseEntity.ok(userService.getUsersPage(after, limit));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<UserDto> getUserById(@PathVariable Long id) {
         return ResponseEntity.ok(userService.getUserById(id));
@@ -0,0 +1,136 @@
+package com.bugtracker.app.dto;
+
+import com.bugtracker.app.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a paginated list. {@code nextCursor} is an opaque token to pass back as {@code after}
+ * and is null on the last page. Lists ordered by id page by keyset; ranked lists such as search
+ * results, which have no stable key to seek on, carry their position instead.
+ */
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    // A string so that it can be the default of a limit request parameter
+    public static final String DEFAULT_LIMIT = "50";
+    // Search hits carry snippets and are ranked, so a page holds fewer of them
+    public static final String DEFAULT_SEARCH_LIMIT = "20";
+    public static final int MAX_LIMIT = 200;
+
+    private static final String CURSOR_PREFIX = "id:";
+    private static final String OFFSET_CURSOR_PREFIX = "offset:";
+    private static final char KEYSET_SEPARATOR = '|';
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+
+    public static <T> CursorPage<T> of(List<T> items, boolean hasMore, Function<T, Long> idExtractor) {
+        String nextCursor = hasMore && !items.isEmpty()
+                ? encodeCursor(idExtractor.apply(items.get(items.size() - 1)))
+                : null;
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+
+    public static <T> CursorPage<T> ofOffset(List<T> items, boolean hasMore, int offset) {
+        String nextCursor = hasMore ? encode(OFFSET_CURSOR_PREFIX, offset + items.size()) : null;
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+
+    public static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    public static Pageable pageRequest(int limit) {
+        return PageRequest.ofSize(clampLimit(limit));
+    }
+
+    public static String encodeCursor(Long id) {
+        return encode(CURSOR_PREFIX, id);
+    }
+
+    /**
+     * Returns the id to continue after, or 0 (before the first row) when no cursor is given.
+     */
+    public static Long decodeCursor(String cursor) {
+        return decode(CURSOR_PREFIX, cursor);
+    }
+
+    /**
+     * Returns the number of rows to skip, or 0 when no cursor is given.
+     */
+    public static int decodeOffsetCursor(String cursor) {
+        long offset = decode(OFFSET_CURSOR_PREFIX, cursor);
+        if (offset < 0 || offset > Integer.MAX_VALUE) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+        return (int) offset;
+    }
+
+    /**
+     * Cursor for a list ordered by {@code sortKey} and then id: carries the last row's sort value and id.
+     */
+    public static String encodeKeysetCursor(String sortKey, String sortValue, Long id) {
+        return encode(sortKey + ":", sortValue + KEYSET_SEPARATOR + id);
+    }
+
+    /**
+     * Returns the sort value and id from a cursor made by {@link #encodeKeysetCursor} for the same
+     * {@code sortKey}, or null when no cursor is given.
+     */
+    public static KeysetPosition decodeKeysetCursor(String sortKey, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String payload = decodePayload(sortKey + ":", cursor);
+        int separator = payload.lastIndexOf(KEYSET_SEPARATOR);
+        if (separator < 0) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+        try {
+            return new KeysetPosition(payload.substring(0, separator), Long.parseLong(payload.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public record KeysetPosition(String sortValue, Long id) {
+    }
+
+    private static String encode(String prefix, Object value) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((prefix + value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decode(String prefix, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(decodePayload(prefix, cursor));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static String decodePayload(String prefix, String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(prefix)) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+            return decoded.substring(prefix.length());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
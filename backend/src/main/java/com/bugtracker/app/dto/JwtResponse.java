@@ -1,5 +1,6 @@
 package com.bugtracker.app.dto;
 
+import com.bugtracker.app.entity.AuthorityLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -12,9 +13,9 @@ public class JwtResponse {
     private String email;
     private String firstName;
     private String lastName;
-    private String authorityLevel;
+    private AuthorityLevel authorityLevel;
 
-    public JwtResponse(String token, Long id, String email, String firstName, String lastName, String authorityLevel) {
+    public JwtResponse(String token, Long id, String email, String firstName, String lastName, AuthorityLevel authorityLevel) {
         this.token = token;
         this.id = id;
         this.email = email;
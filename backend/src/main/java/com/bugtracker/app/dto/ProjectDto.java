@@ -20,4 +20,7 @@ public class ProjectDto {
     private LocalDateTime updatedAt;
     private Set<Long> teamMemberIds;
     private Integer ticketCount;
+    private Integer openTicketCount;
+    private Integer inProgressTicketCount;
+    private Integer closedTicketCount;
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.bugtracker.app.dto;
+
+import com.bugtracker.app.entity.TicketStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A change to a project's tickets or comments, pushed to subscribers of
+ * {@code /api/stream/projects/{id}}. Only the fields relevant to the event type are set.
+ * {@link Type#RESYNC} means the subscriber missed events (or a bulk change happened) and should
+ * refetch instead of applying deltas.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectEvent {
+
+    public enum Type {
+        TICKET_CREATED, TICKET_UPDATED, TICKET_DELETED, TICKET_ASSIGNED, TICKET_UNASSIGNED,
+        COMMENT_ADDED, COMMENT_UPDATED, COMMENT_DELETED, RESYNC
+    }
+
+    private Type type;
+    private Long projectId;
+    private Long ticketId;
+    private TicketDto ticket;
+    private Long userId;
+    private TicketStatus status;
+    private CommentDto comment;
+    private Long commentId;
+
+    private ProjectEvent(Type type, Long projectId, Long ticketId) {
+        this.type = type;
+        this.projectId = projectId;
+        this.ticketId = ticketId;
+    }
+
+    public static ProjectEvent ticketCreated(TicketDto ticket) {
+        ProjectEvent event = new ProjectEvent(Type.TICKET_CREATED, ticket.getProjectId(), ticket.getId());
+        event.setTicket(ticket);
+        return event;
+    }
+
+    public static ProjectEvent ticketUpdated(TicketDto ticket) {
+        ProjectEvent event = new ProjectEvent(Type.TICKET_UPDATED, ticket.getProjectId(), ticket.getId());
+        event.setTicket(ticket);
+        return event;
+    }
+
+    public static ProjectEvent ticketDeleted(Long projectId, Long ticketId) {
+        return new ProjectEvent(Type.TICKET_DELETED, projectId, ticketId);
+    }
+
+    public static ProjectEvent ticketAssigned(Long projectId, Long ticketId, Long userId, TicketStatus status) {
+        ProjectEvent event = new ProjectEvent(Type.TICKET_ASSIGNED, projectId, ticketId);
+        event.setUserId(userId);
+        event.setStatus(status);
+        return event;
+    }
+
+    public static ProjectEvent ticketUnassigned(Long projectId, Long ticketId, Long userId, TicketStatus status) {
+        ProjectEvent event = new ProjectEvent(Type.TICKET_UNASSIGNED, projectId, ticketId);
+        event.setUserId(userId);
+        event.setStatus(status);
+        return event;
+    }
+
+    public static ProjectEvent commentAdded(Long projectId, CommentDto comment) {
+        ProjectEvent event = new ProjectEvent(Type.COMMENT_ADDED, projectId, comment.getTicketId());
+        event.setComment(comment);
+        return event;
+    }
+
+    public static ProjectEvent commentUpdated(Long projectId, CommentDto comment) {
+        ProjectEvent event = new ProjectEvent(Type.COMMENT_UPDATED, projectId, comment.getTicketId());
+        event.setComment(comment);
+        return event;
+    }
+
+    public static ProjectEvent commentDeleted(Long projectId, Long ticketId, Long commentId) {
+        ProjectEvent event = new ProjectEvent(Type.COMMENT_DELETED, projectId, ticketId);
+        event.setCommentId(commentId);
+        return event;
+    }
+
+    public static ProjectEvent resync(Long projectId) {
+        return new ProjectEvent(Type.RESYNC, projectId, null);
+    }
+}
@@ -0,0 +1,22 @@
+package com.bugtracker.app.dto;
+
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class SearchHitDto {
+    private Long ticketId;
+    private String title;
+    private String headline;
+    private Long projectId;
+    private String projectName;
+    private TicketPriority priority;
+    private TicketStatus status;
+    private TicketType type;
+    private LocalDateTime updatedAt;
+    private double rank;
+}
@@ -0,0 +1,27 @@
+package com.bugtracker.app.dto;
+
+import com.bugtracker.app.entity.TicketStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * One item of a batch request. Which fields are used depends on {@code op}:
+ * CREATE takes {@code ticket} (its {@code assignedDeveloperIds} are assigned too), UPDATE takes
+ * {@code ticketId} and {@code ticket}, ASSIGN and UNASSIGN take {@code ticketId} and {@code userId},
+ * and STATUS takes {@code ticketId} and {@code status}.
+ */
+@Data
+public class TicketBatchOperation {
+
+    public enum Op {
+        CREATE, UPDATE, ASSIGN, UNASSIGN, STATUS
+    }
+
+    @NotNull(message = "Operation is required")
+    private Op op;
+
+    private Long ticketId;
+    private Long userId;
+    private TicketStatus status;
+    private TicketDto ticket;
+}
@@ -0,0 +1,19 @@
+package com.bugtracker.app.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TicketBatchRequest {
+
+    public static final int MAX_OPERATIONS = 1000;
+
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = MAX_OPERATIONS, message = "At most " + MAX_OPERATIONS + " operations per batch")
+    private List<@Valid @NotNull(message = "Operation must not be null") TicketBatchOperation> operations;
+}
@@ -0,0 +1,13 @@
+package com.bugtracker.app.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class TicketBatchResponse {
+    private int succeeded;
+    private int failed;
+    private List<TicketBatchResult> results = new ArrayList<>();
+}
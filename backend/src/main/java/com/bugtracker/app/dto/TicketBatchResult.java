@@ -0,0 +1,14 @@
+package com.bugtracker.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TicketBatchResult {
+    private int index;
+    private TicketBatchOperation.Op op;
+    private boolean success;
+    private Long ticketId;
+    private String error;
+}
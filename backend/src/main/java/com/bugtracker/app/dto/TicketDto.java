@@ -1,5 +1,8 @@
 package com.bugtracker.app.dto;
 
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
@@ -22,9 +25,9 @@ public class TicketDto {
     private String projectName;
     private Long createdById;
     private String createdByName;
-    private String priority;
-    private String status;
-    private String type;
+    private TicketPriority priority;
+    private TicketStatus status;
+    private TicketType type;
     private Integer timeEstimate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
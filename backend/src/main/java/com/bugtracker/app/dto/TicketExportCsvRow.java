@@ -0,0 +1,67 @@
+package com.bugtracker.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A CSV line of a project export. Each ticket is a {@code ticket} row followed by one
+ * {@code comment} row per comment; comment rows repeat only the ticket id. Assignee ids are
+ * joined with {@code ;}.
+ */
+@Data
+@JsonPropertyOrder({"record", "ticketId", "title", "description", "status", "priority", "type", "timeEstimate",
+        "createdById", "createdByName", "assignedDeveloperIds", "commentId", "userId", "userName", "content",
+        "createdAt", "updatedAt"})
+public class TicketExportCsvRow {
+    private String record;
+    private Long ticketId;
+    private String title;
+    private String description;
+    private String status;
+    private String priority;
+    private String type;
+    private Integer timeEstimate;
+    private Long createdById;
+    private String createdByName;
+    private List<Long> assignedDeveloperIds;
+    private Long commentId;
+    private Long userId;
+    private String userName;
+    private String content;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static TicketExportCsvRow ticket(TicketExportDto ticket) {
+        TicketExportCsvRow row = new TicketExportCsvRow();
+        row.setRecord("ticket");
+        row.setTicketId(ticket.getId());
+        row.setTitle(ticket.getTitle());
+        row.setDescription(ticket.getDescription());
+        row.setStatus(ticket.getStatus() != null ? ticket.getStatus().name() : null);
+        row.setPriority(ticket.getPriority() != null ? ticket.getPriority().name() : null);
+        row.setType(ticket.getType() != null ? ticket.getType().name() : null);
+        row.setTimeEstimate(ticket.getTimeEstimate());
+        row.setCreatedById(ticket.getCreatedById());
+        row.setCreatedByName(ticket.getCreatedByName());
+        row.setAssignedDeveloperIds(ticket.getAssignedDeveloperIds());
+        row.setCreatedAt(ticket.getCreatedAt());
+        row.setUpdatedAt(ticket.getUpdatedAt());
+        return row;
+    }
+
+    public static TicketExportCsvRow comment(CommentDto comment) {
+        TicketExportCsvRow row = new TicketExportCsvRow();
+        row.setRecord("comment");
+        row.setTicketId(comment.getTicketId());
+        row.setCommentId(comment.getId());
+        row.setUserId(comment.getUserId());
+        row.setUserName(comment.getUserName());
+        row.setContent(comment.getContent());
+        row.setCreatedAt(comment.getCreatedAt());
+        row.setUpdatedAt(comment.getUpdatedAt());
+        return row;
+    }
+}
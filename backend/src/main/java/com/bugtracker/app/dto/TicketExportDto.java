@@ -0,0 +1,31 @@
+package com.bugtracker.app.dto;
+
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One ticket of a project export, with its assignees and all of its comments. Written as one
+ * NDJSON line, or flattened into {@link TicketExportCsvRow}s.
+ */
+@Data
+public class TicketExportDto {
+    private Long id;
+    private String title;
+    private String description;
+    private Long createdById;
+    private String createdByName;
+    private TicketPriority priority;
+    private TicketStatus status;
+    private TicketType type;
+    private Integer timeEstimate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<Long> assignedDeveloperIds = new ArrayList<>();
+    private List<CommentDto> comments = new ArrayList<>();
+}
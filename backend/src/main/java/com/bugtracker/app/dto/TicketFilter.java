@@ -0,0 +1,36 @@
+package com.bugtracker.app.dto;
+
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Optional ticket filters; every field that is set narrows the result. Multi-valued fields
+ * match any of their values.
+ */
+@Data
+public class TicketFilter {
+    private List<TicketStatus> status;
+    private List<TicketPriority> priority;
+    private List<TicketType> type;
+    private Long projectId;
+    private Long assigneeId;
+    private Long createdById;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdAfter;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdBefore;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedAfter;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedBefore;
+}
@@ -0,0 +1,29 @@
+package com.bugtracker.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+/**
+ * A CSV line of a project import, read by header name. Each ticket is a {@code ticket} row
+ * followed by one {@code comment} row per comment, the layout the export writes. Values are
+ * kept as text and converted per row, so a bad value fails that ticket instead of the file.
+ * Assignee emails are joined with {@code ;}.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TicketImportCsvRow {
+    private String record;
+    private String externalRef;
+    private String title;
+    private String description;
+    private String status;
+    private String priority;
+    private String type;
+    private String timeEstimate;
+    private String createdByEmail;
+    private String assigneeEmails;
+    private String authorEmail;
+    private String content;
+    private String createdAt;
+    private String updatedAt;
+}
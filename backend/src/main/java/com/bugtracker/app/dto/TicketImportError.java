@@ -0,0 +1,12 @@
+package com.bugtracker.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TicketImportError {
+    private int record;
+    private String externalRef;
+    private String message;
+}
@@ -0,0 +1,53 @@
+package com.bugtracker.app.dto;
+
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One ticket of a project import, with its comments. Users are referenced by email. Omitted
+ * fields take the same defaults as tickets created through the API; the creator defaults to the
+ * importing user and the timestamps to the time of the import.
+ */
+@Data
+public class TicketImportRecord {
+
+    @Size(max = 255, message = "External reference must be at most 255 characters")
+    private String externalRef;
+
+    @NotBlank(message = "Title is required")
+    @Size(max = 255, message = "Title must be at most 255 characters")
+    private String title;
+
+    private String description;
+    private TicketPriority priority;
+    private TicketStatus status;
+    private TicketType type;
+    private Integer timeEstimate;
+    private String createdByEmail;
+    private List<String> assigneeEmails = new ArrayList<>();
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Valid
+    private List<Comment> comments = new ArrayList<>();
+
+    @Data
+    public static class Comment {
+
+        @NotBlank(message = "Comment content is required")
+        private String content;
+
+        private String authorEmail;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+}
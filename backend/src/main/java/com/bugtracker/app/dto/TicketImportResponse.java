@@ -0,0 +1,24 @@
+package com.bugtracker.app.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a project import. Counts cover the records read in this run, from {@code resumeFrom}
+ * on. When the import stopped early ({@code complete} is false), everything before
+ * {@code resumeFrom} is committed, and the same file can be sent again with that value.
+ */
+@Data
+public class TicketImportResponse {
+    private boolean complete;
+    private int processed;
+    private int imported;
+    private int importedComments;
+    private int skipped;
+    private int failed;
+    private Integer resumeFrom;
+    private List<TicketImportError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+}
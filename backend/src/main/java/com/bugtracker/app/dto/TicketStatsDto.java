@@ -0,0 +1,14 @@
+package com.bugtracker.app.dto;
+
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+public class TicketStatsDto {
+    private long total;
+    private Map<String, Long> byStatus = new LinkedHashMap<>();
+    private Map<String, Long> byType = new LinkedHashMap<>();
+    private Map<String, Long> byPriority = new LinkedHashMap<>();
+}
@@ -1,5 +1,6 @@
 package com.bugtracker.app.dto;
 
+import com.bugtracker.app.entity.AuthorityLevel;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -10,6 +11,6 @@ public class UserDto {
     private String email;
     private String firstName;
     private String lastName;
-    private String authorityLevel;
+    private AuthorityLevel authorityLevel;
     private LocalDateTime createdAt;
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.bugtracker.app.entity;
+
+public enum AuthorityLevel implements CodedEnum {
+    USER(1),
+    ADMIN(2);
+
+    private final short code;
+
+    AuthorityLevel(int code) {
+        this.code = (short) code;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
+}
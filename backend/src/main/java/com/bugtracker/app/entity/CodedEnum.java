@@ -0,0 +1,22 @@
+package com.bugtracker.app.entity;
+
+/**
+ * An enum persisted as a fixed smallint code. Codes are part of the schema (see
+ * V5__store_enums_as_codes.sql) and must never be renumbered; add new constants with new codes.
+ */
+public interface CodedEnum {
+
+    short getCode();
+
+    static <E extends Enum<E> & CodedEnum> E fromCode(Class<E> type, Short code) {
+        if (code == null) {
+            return null;
+        }
+        for (E constant : type.getEnumConstants()) {
+            if (constant.getCode() == code) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " code: " + code);
+    }
+}
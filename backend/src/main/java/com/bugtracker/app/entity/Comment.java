@@ -1,5 +1,6 @@
 package com.bugtracker.app.entity;
 
+import com.bugtracker.app.entity.id.PooledSequence;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
@@ -9,7 +10,10 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_ticket_id_id", columnList = "ticket_id, id"),
+        @Index(name = "idx_comments_user_id", columnList = "user_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +23,7 @@ import java.time.LocalDateTime;
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence("comments_seq")
     private Long id;
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -0,0 +1,34 @@
+package com.bugtracker.app.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * The single row of {@code global_content_version}. Maintained and read with SQL by
+ * ContentVersionService; mapped only so that the schema generated for the load-test database has
+ * the table.
+ */
+@Entity
+@Table(name = "global_content_version")
+@Getter
+@NoArgsConstructor
+public class GlobalContentVersion {
+
+    @Id
+    private Integer id;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,8 +1,12 @@
 package com.bugtracker.app.entity;
 
+import com.bugtracker.app.entity.id.PooledSequence;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,16 +16,20 @@ import java.util.Set;
 
 @Entity
 @Table(name = "projects")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@ToString(exclude = {"tickets", "teamMembers", "createdBy"})
-@EqualsAndHashCode(exclude = {"tickets", "teamMembers", "createdBy"})
+@ToString(exclude = {"tickets", "teamMembers", "createdBy", "contentVersion", "contentUpdatedAt",
+        "openTicketCount", "inProgressTicketCount", "closedTicketCount"})
+@EqualsAndHashCode(exclude = {"tickets", "teamMembers", "createdBy", "contentVersion", "contentUpdatedAt",
+        "openTicketCount", "inProgressTicketCount", "closedTicketCount"})
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence("projects_seq")
     private Long id;
 
     @Column(nullable = false)
@@ -43,12 +51,47 @@ public class Project {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Maintained with SQL by ContentVersionService and read from there; mapped only so that the
+    // schema generated for the load-test database has the columns. Values on a loaded entity are stale.
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("0")
+    @Column(name = "content_version", nullable = false, insertable = false, updatable = false)
+    private Long contentVersion;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "content_updated_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime contentUpdatedAt;
+
+    // Ticket counts per status, maintained with SQL by TicketCounterService and read through projections
+    // (ProjectSummary, TicketStatusCounts); values on a loaded or cached entity are stale
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("0")
+    @Column(name = "open_ticket_count", nullable = false, insertable = false, updatable = false)
+    private Integer openTicketCount;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("0")
+    @Column(name = "in_progress_ticket_count", nullable = false, insertable = false, updatable = false)
+    private Integer inProgressTicketCount;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("0")
+    @Column(name = "closed_ticket_count", nullable = false, insertable = false, updatable = false)
+    private Integer closedTicketCount;
+
     // Relationships
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnoreProperties({"project", "createdBy", "comments", "assignedDevelopers"})
     private Set<Ticket> tickets = new HashSet<>();
 
     @ManyToMany(mappedBy = "projects")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project-team-members")
     @JsonIgnoreProperties({"createdProjects", "createdTickets", "projects", "assignedTickets", "comments", "password"})
     private Set<User> teamMembers = new HashSet<>();
 }
\ No newline at end of file
@@ -1,9 +1,13 @@
 package com.bugtracker.app.entity;
 
+import com.bugtracker.app.entity.id.PooledSequence;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,7 +16,17 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "tickets")
+@Table(name = "tickets", indexes = {
+        @Index(name = "idx_tickets_project_id_id", columnList = "project_id, id"),
+        @Index(name = "idx_tickets_project_id_status", columnList = "project_id, status"),
+        @Index(name = "idx_tickets_status_priority", columnList = "status, priority"),
+        @Index(name = "idx_tickets_created_by", columnList = "created_by"),
+        @Index(name = "idx_tickets_priority", columnList = "priority"),
+        @Index(name = "idx_tickets_type", columnList = "type"),
+        @Index(name = "idx_tickets_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_tickets_updated_at_id", columnList = "updated_at, id"),
+        @Index(name = "idx_tickets_project_id_external_ref", columnList = "project_id, external_ref", unique = true)
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,8 +35,9 @@ import java.util.Set;
 @EqualsAndHashCode(exclude = {"project", "createdBy", "comments", "assignedDevelopers"})
 public class Ticket {
 
+    // Sequence ids (allocated in blocks) let Hibernate batch inserts; IDENTITY forces one insert per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence("tickets_seq")
     private Long id;
 
     @Column(nullable = false)
@@ -42,17 +57,28 @@ public class Ticket {
     private User createdBy;
 
     @Column(nullable = false)
-    private String priority = "MEDIUM";
+    private TicketPriority priority = TicketPriority.MEDIUM;
 
     @Column(nullable = false)
-    private String status = "OPEN";
+    private TicketStatus status = TicketStatus.OPEN;
 
     @Column(nullable = false)
-    private String type = "BUG";
+    private TicketType type = TicketType.BUG;
 
     @Column(name = "time_estimate")
     private Integer timeEstimate;
 
+    // Id in the tracker the ticket was imported from, unique per project (see TicketImportService)
+    @Column(name = "external_ref", updatable = false)
+    private String externalRef;
+
+    // Maintained with SQL by TicketCounterService, never written by Hibernate. A ticket loaded before a
+    // comment was added or deleted in the same transaction still carries the old count.
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private Integer commentCount = 0;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -67,6 +93,7 @@ public class Ticket {
     private Set<Comment> comments = new HashSet<>();
 
     @ManyToMany(mappedBy = "assignedTickets")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "ticket-assigned-developers")
     @JsonIgnoreProperties({"createdProjects", "createdTickets", "projects", "assignedTickets", "comments", "password"})
     private Set<User> assignedDevelopers = new HashSet<>();
 }
\ No newline at end of file
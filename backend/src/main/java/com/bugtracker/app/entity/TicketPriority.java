@@ -0,0 +1,18 @@
+package com.bugtracker.app.entity;
+
+public enum TicketPriority implements CodedEnum {
+    LOW(1),
+    MEDIUM(2),
+    HIGH(3);
+
+    private final short code;
+
+    TicketPriority(int code) {
+        this.code = (short) code;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,18 @@
+package com.bugtracker.app.entity;
+
+public enum TicketStatus implements CodedEnum {
+    OPEN(1),
+    IN_PROGRESS(2),
+    CLOSED(3);
+
+    private final short code;
+
+    TicketStatus(int code) {
+        this.code = (short) code;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
+}
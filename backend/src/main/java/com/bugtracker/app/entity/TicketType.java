@@ -0,0 +1,19 @@
+package com.bugtracker.app.entity;
+
+public enum TicketType implements CodedEnum {
+    BUG(1),
+    FEATURE(2),
+    ENHANCEMENT(3),
+    DOCUMENTATION(4);
+
+    private final short code;
+
+    TicketType(int code) {
+        this.code = (short) code;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
+}
@@ -1,9 +1,12 @@
 package com.bugtracker.app.entity;
 
+import com.bugtracker.app.entity.id.PooledSequence;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,6 +16,8 @@ import java.util.Set;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,7 +27,7 @@ import java.util.Set;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence("users_seq")
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -38,8 +43,8 @@ public class User {
     @Column(name = "last_name")
     private String lastName;
 
-    @Column(name = "authority_level")
-    private String authorityLevel = "USER";
+    @Column(name = "authority_level", nullable = false)
+    private AuthorityLevel authorityLevel = AuthorityLevel.USER;
 
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
@@ -59,10 +64,12 @@ public class User {
     private Set<Ticket> createdTickets = new HashSet<>();
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-projects")
     @JoinTable(
         name = "user_projects",
         joinColumns = @JoinColumn(name = "user_id"),
-        inverseJoinColumns = @JoinColumn(name = "project_id")
+        inverseJoinColumns = @JoinColumn(name = "project_id"),
+        indexes = @Index(name = "idx_user_projects_user_id_project_id", columnList = "user_id, project_id")
     )
     @JsonIgnoreProperties({"createdBy", "tickets", "teamMembers"})
     private Set<Project> projects = new HashSet<>();
@@ -71,7 +78,8 @@ public class User {
     @JoinTable(
         name = "dev_assignments",
         joinColumns = @JoinColumn(name = "user_id"),
-        inverseJoinColumns = @JoinColumn(name = "ticket_id")
+        inverseJoinColumns = @JoinColumn(name = "ticket_id"),
+        indexes = @Index(name = "idx_dev_assignments_user_id_ticket_id", columnList = "user_id, ticket_id")
     )
     @JsonIgnoreProperties({"project", "createdBy", "comments", "assignedDevelopers"})
     private Set<Ticket> assignedTickets = new HashSet<>();
@@ -0,0 +1,12 @@
+package com.bugtracker.app.entity.converter;
+
+import com.bugtracker.app.entity.AuthorityLevel;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class AuthorityLevelConverter extends CodedEnumConverter<AuthorityLevel> {
+
+    public AuthorityLevelConverter() {
+        super(AuthorityLevel.class);
+    }
+}
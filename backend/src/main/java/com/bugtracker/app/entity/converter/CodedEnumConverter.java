@@ -0,0 +1,26 @@
+package com.bugtracker.app.entity.converter;
+
+import com.bugtracker.app.entity.CodedEnum;
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * Stores a {@link CodedEnum} as its smallint code rather than its name.
+ */
+public abstract class CodedEnumConverter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, Short> {
+
+    private final Class<E> type;
+
+    protected CodedEnumConverter(Class<E> type) {
+        this.type = type;
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(E attribute) {
+        return attribute != null ? attribute.getCode() : null;
+    }
+
+    @Override
+    public E convertToEntityAttribute(Short code) {
+        return CodedEnum.fromCode(type, code);
+    }
+}
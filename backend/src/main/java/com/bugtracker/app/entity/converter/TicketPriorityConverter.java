@@ -0,0 +1,12 @@
+package com.bugtracker.app.entity.converter;
+
+import com.bugtracker.app.entity.TicketPriority;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class TicketPriorityConverter extends CodedEnumConverter<TicketPriority> {
+
+    public TicketPriorityConverter() {
+        super(TicketPriority.class);
+    }
+}
@@ -0,0 +1,12 @@
+package com.bugtracker.app.entity.converter;
+
+import com.bugtracker.app.entity.TicketStatus;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class TicketStatusConverter extends CodedEnumConverter<TicketStatus> {
+
+    public TicketStatusConverter() {
+        super(TicketStatus.class);
+    }
+}
@@ -0,0 +1,12 @@
+package com.bugtracker.app.entity.converter;
+
+import com.bugtracker.app.entity.TicketType;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class TicketTypeConverter extends CodedEnumConverter<TicketType> {
+
+    public TicketTypeConverter() {
+        super(TicketType.class);
+    }
+}
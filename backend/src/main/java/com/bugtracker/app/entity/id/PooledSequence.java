@@ -0,0 +1,25 @@
+package com.bugtracker.app.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Generates ids from the named database sequence in blocks sized by
+ * {@value PooledSequenceGenerator#ALLOCATION_SIZE_SETTING}. Unlike IDENTITY this keeps JDBC insert
+ * batching available.
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface PooledSequence {
+
+    /**
+     * Name of the database sequence.
+     */
+    String value();
+}
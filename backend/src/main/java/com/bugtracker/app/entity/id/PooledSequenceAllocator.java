@@ -0,0 +1,45 @@
+package com.bugtracker.app.entity.id;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Hands out ids for rows written with plain JDBC into tables whose ids come from a
+ * {@link PooledSequence}. It follows the same contract as Hibernate's pooled optimizer: each value
+ * read from the sequence is the top of a block of {@code db.id-allocation-size} ids. Ids taken here
+ * are therefore never handed out by Hibernate, and the reverse holds too.
+ */
+@Component
+public class PooledSequenceAllocator {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${db.id-allocation-size}")
+    private int allocationSize;
+
+    /**
+     * Returns {@code count} unused ids from {@code sequence}, in ascending order, reading one
+     * sequence value per block in a single statement.
+     */
+    public long[] allocate(String sequence, int count) {
+        long[] ids = new long[count];
+        if (count == 0) {
+            return ids;
+        }
+        int blocks = (count + allocationSize - 1) / allocationSize;
+        List<Long> tops = jdbcTemplate.queryForList(
+                "SELECT nextval(CAST(? AS regclass)) FROM generate_series(1, ?)", Long.class, sequence, blocks);
+        int next = 0;
+        for (long top : tops.stream().sorted().toList()) {
+            for (long id = top - allocationSize + 1; id <= top && next < count; id++) {
+                ids[next++] = id;
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,47 @@
+package com.bugtracker.app.entity.id;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.service.ServiceRegistry;
+
+import java.lang.reflect.Member;
+import java.util.Properties;
+
+/**
+ * Sequence generator using the pooled optimizer, with the allocation size taken from the
+ * {@value #ALLOCATION_SIZE_SETTING} setting (spring.jpa.properties) rather than fixed per entity.
+ * Each value read from the sequence is the top of a block of that many ids, so the database
+ * sequence must be incremented by the same amount; Flyway keeps it in step (see
+ * R__id_sequence_increments.sql) and Hibernate refuses to start if they differ.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE_SETTING = "bugtracker.id.allocation_size";
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    public PooledSequenceGenerator(PooledSequence config, Member member, CustomIdGeneratorCreationContext context) {
+        // Generators declared through @IdGeneratorType are not configured by Hibernate itself
+        ServiceRegistry serviceRegistry = context.getServiceRegistry();
+        int allocationSize = serviceRegistry.requireService(ConfigurationService.class)
+                .getSetting(ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER, DEFAULT_ALLOCATION_SIZE);
+        if (allocationSize < 1) {
+            throw new MappingException(ALLOCATION_SIZE_SETTING + " must be at least 1, was " + allocationSize);
+        }
+
+        Properties parameters = new Properties();
+        if (context.getDefaultCatalog() != null) {
+            parameters.put(CATALOG, context.getDefaultCatalog());
+        }
+        if (context.getDefaultSchema() != null) {
+            parameters.put(SCHEMA, context.getDefaultSchema());
+        }
+        parameters.put(SEQUENCE_PARAM, config.value());
+        parameters.put(INCREMENT_PARAM, String.valueOf(allocationSize));
+        parameters.put(OPT_PARAM, StandardOptimizerDescriptor.POOLED.getExternalName());
+        configure(context.getProperty().getType(), parameters, serviceRegistry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.bugtracker.app.logging;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Carries the submitting thread's MDC (the correlation id) over to the threads that do part of a
+ * request's work: streamed response bodies (see AsyncMvcConfig), password hashing
+ * (PasswordHashingExecutor) and the completion of async requests (RequestStatementCountFilter). Their
+ * log lines, including the slow-query log, can then be tied to the request. Spring Boot also applies
+ * it to the executor it auto-configures.
+ */
+@Component
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context != null) {
+                MDC.setContextMap(context);
+            } else {
+                MDC.clear();
+            }
+            try {
+                runnable.run();
+            } finally {
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.bugtracker.app.logging;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Logs JDBC executions that take at least the configured threshold, keeping only a sampled
+ * fraction of them so that a slow database doesn't also flood the logs. Entries go to the
+ * {@code bugtracker.slow-query} logger with the timing as structured key/value pairs. Bind
+ * parameters are never logged.
+ */
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger("bugtracker.slow-query");
+
+    private final long thresholdMillis;
+    private final double sampleRate;
+
+    public SlowQueryListener(Duration threshold, double sampleRate) {
+        this.thresholdMillis = threshold.toMillis();
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < thresholdMillis
+                || (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return;
+        }
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        log.atWarn()
+                .addKeyValue("elapsedMs", execInfo.getElapsedTime())
+                .addKeyValue("batchSize", execInfo.isBatch() ? execInfo.getBatchSize() : 1)
+                .addKeyValue("success", execInfo.isSuccess())
+                .log("Slow query took {} ms: {}", execInfo.getElapsedTime(), sql);
+    }
+}
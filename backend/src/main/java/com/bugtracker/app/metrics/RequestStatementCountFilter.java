@@ -0,0 +1,102 @@
+package com.bugtracker.app.metrics;
+
+import com.bugtracker.app.logging.MdcTaskDecorator;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the number of SQL statements each request runs as the {@code bugtracker.http.sql.statements}
+ * summary, tagged by route, and logs requests that run more than {@code metrics.sql-statements.warn-threshold}.
+ * Runs ahead of Spring Security so that the principal lookup is included. For a streamed response
+ * the count is recorded when the response completes, so it includes the statements run while
+ * writing the body.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class RequestStatementCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestStatementCountFilter.class);
+
+    private final RequestStatementCounter counter;
+    private final MdcTaskDecorator mdcTaskDecorator;
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    public RequestStatementCountFilter(RequestStatementCounter counter, MdcTaskDecorator mdcTaskDecorator,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${metrics.sql-statements.warn-threshold}") int warnThreshold) {
+        this.counter = counter;
+        this.mdcTaskDecorator = mdcTaskDecorator;
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        counter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            AtomicInteger statements = counter.detach();
+            if (request.isAsyncStarted()) {
+                // Completion runs on a container thread; keep the request's correlation id for the warning
+                Runnable recordOnComplete = mdcTaskDecorator.decorate(() -> record(request, statements.get()));
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        recordOnComplete.run();
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                record(request, statements.get());
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int statements) {
+        // The matched route keeps the tag bounded; ids in the raw path would not be
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("bugtracker.http.sql.statements")
+                .description("SQL statements per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+        if (warnThreshold > 0 && statements > warnThreshold) {
+            log.warn("{} {} ran {} SQL statements (threshold {})",
+                    request.getMethod(), request.getRequestURI(), statements, warnThreshold);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.bugtracker.app.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the JDBC executions (Hibernate and JdbcTemplate alike; a batch counts once) made on the
+ * current thread while a request is being counted. Registered on the DataSource proxy (see
+ * DataSourceProxyConfig). As a {@link TaskDecorator} it carries the count over to the thread that
+ * writes a streamed response body. Executions outside {@link #start} and {@link #stop} (startup,
+ * scheduled jobs) are ignored.
+ */
+public class RequestStatementCounter implements QueryExecutionListener, TaskDecorator {
+
+    private final ThreadLocal<AtomicInteger> count = new ThreadLocal<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        AtomicInteger current = count.get();
+        if (current != null) {
+            current.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        AtomicInteger current = count.get();
+        if (current == null) {
+            return runnable;
+        }
+        return () -> {
+            count.set(current);
+            try {
+                runnable.run();
+            } finally {
+                count.remove();
+            }
+        };
+    }
+
+    public void start() {
+        count.set(new AtomicInteger());
+    }
+
+    /**
+     * Ends counting on the current thread and returns the running count, which keeps growing while
+     * a task decorated before this call is still executing.
+     */
+    public AtomicInteger detach() {
+        AtomicInteger current = count.get();
+        count.remove();
+        return current != null ? current : new AtomicInteger();
+    }
+
+    /**
+     * Ends counting for the current thread and returns the number of statements seen since
+     * {@link #start}.
+     */
+    public int stop() {
+        return detach().get();
+    }
+}
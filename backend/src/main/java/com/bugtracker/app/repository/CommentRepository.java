@@ -1,6 +1,8 @@
 package com.bugtracker.app.repository;
 
 import com.bugtracker.app.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -13,5 +15,5 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findByUserId(Long userId);
 
-    Long countByTicketId(Long ticketId);
-}
\ No newline at end of file
+    Slice<Comment> findByTicketIdAndIdGreaterThanOrderByIdAsc(Long ticketId, Long afterId, Pageable pageable);
+}
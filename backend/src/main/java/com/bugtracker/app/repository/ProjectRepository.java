@@ -1,15 +1,31 @@
 package com.bugtracker.app.repository;
 
 import com.bugtracker.app.entity.Project;
+import com.bugtracker.app.repository.projection.IdPair;
+import com.bugtracker.app.repository.projection.ProjectSummary;
+import com.bugtracker.app.repository.projection.TicketStatusCounts;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    String TICKET_COUNTS = "p.openTicketCount AS openTicketCount, p.inProgressTicketCount AS inProgressTicketCount, " +
+            "p.closedTicketCount AS closedTicketCount ";
+
+    String SUMMARY_SELECT = "SELECT p.id AS id, p.name AS name, p.description AS description, " +
+            "c.id AS createdById, c.firstName AS createdByFirstName, c.lastName AS createdByLastName, " +
+            "p.createdAt AS createdAt, p.updatedAt AS updatedAt, " + TICKET_COUNTS +
+            "FROM Project p LEFT JOIN p.createdBy c ";
+
+    String TEAM_MEMBER_FILTER = "p.id IN (SELECT mp.id FROM User u JOIN u.projects mp WHERE u.id = :userId) ";
+
     List<Project> findByCreatedById(Long userId);
 
     @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.teamMembers WHERE p.id = :id")
@@ -17,4 +33,25 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     @Query("SELECT DISTINCT p FROM Project p JOIN p.teamMembers u WHERE u.id = :userId")
     List<Project> findProjectsByTeamMemberId(Long userId);
-}
\ No newline at end of file
+
+    // Projection read path: scalar columns in one statement, no entity or lazy association loading
+
+    @Query(SUMMARY_SELECT + "ORDER BY p.id")
+    List<ProjectSummary> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE " + TEAM_MEMBER_FILTER + "ORDER BY p.id")
+    List<ProjectSummary> findSummariesByTeamMemberId(Long userId);
+
+    @Query(SUMMARY_SELECT + "WHERE p.id > :afterId ORDER BY p.id")
+    Slice<ProjectSummary> findSummariesAfter(Long afterId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.id > :afterId AND " + TEAM_MEMBER_FILTER + "ORDER BY p.id")
+    Slice<ProjectSummary> findSummariesByTeamMemberIdAfter(Long userId, Long afterId, Pageable pageable);
+
+    // Counter columns, read with a query because the cached entity doesn't see their SQL updates
+    @Query("SELECT " + TICKET_COUNTS + "FROM Project p WHERE p.id = :id")
+    TicketStatusCounts findTicketCountsById(Long id);
+
+    @Query("SELECT p.id AS ownerId, u.id AS memberId FROM Project p JOIN p.teamMembers u WHERE p.id IN :projectIds")
+    List<IdPair> findTeamMemberIds(Collection<Long> projectIds);
+}
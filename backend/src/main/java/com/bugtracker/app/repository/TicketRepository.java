@@ -1,14 +1,78 @@
 package com.bugtracker.app.repository;
 
 import com.bugtracker.app.entity.Ticket;
+import com.bugtracker.app.repository.projection.IdPair;
+import com.bugtracker.app.repository.projection.TicketSearchHit;
+import com.bugtracker.app.repository.projection.TicketStatsRow;
+import com.bugtracker.app.repository.projection.TicketSummary;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TicketRepository extends JpaRepository<Ticket, Long> {
+public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket> {
+
+    String SUMMARY_SELECT = "SELECT t.id AS id, t.title AS title, t.description AS description, " +
+            "p.id AS projectId, p.name AS projectName, " +
+            "c.id AS createdById, c.firstName AS createdByFirstName, c.lastName AS createdByLastName, " +
+            "t.priority AS priority, t.status AS status, t.type AS type, t.timeEstimate AS timeEstimate, " +
+            "t.commentCount AS commentCount, t.createdAt AS createdAt, t.updatedAt AS updatedAt " +
+            "FROM Ticket t JOIN t.project p LEFT JOIN t.createdBy c ";
+
+    String STREAM_FETCH_SIZE = "500";
+
+    String STATS_SELECT = "SELECT t.status AS status, t.type AS type, t.priority AS priority, COUNT(t) AS count " +
+            "FROM Ticket t ";
+
+    String STATS_GROUP_BY = " GROUP BY t.status, t.type, t.priority";
+
+    // Matches tickets on their own text or on any of their comments and keeps the best rank per ticket.
+    // Only the newest :candidates matches from each side are ranked, which bounds the cost of very broad
+    // queries, and headlines are built for the requested page only. Backed by the GIN indexes from V3.
+    String SEARCH_QUERY = "WITH query AS (SELECT websearch_to_tsquery('english', :text) AS q), " +
+            "candidates AS (" +
+            "(SELECT t.id AS ticket_id, t.search_vector FROM tickets t, query WHERE t.search_vector @@ query.q " +
+            "AND (CAST(:projectId AS BIGINT) IS NULL OR t.project_id = :projectId) " +
+            "ORDER BY t.id DESC LIMIT :candidates) " +
+            "UNION ALL " +
+            "(SELECT c.ticket_id, c.search_vector FROM comments c, query WHERE c.search_vector @@ query.q " +
+            "AND (CAST(:projectId AS BIGINT) IS NULL " +
+            "OR c.ticket_id IN (SELECT pt.id FROM tickets pt WHERE pt.project_id = :projectId)) " +
+            "ORDER BY c.id DESC LIMIT :candidates)), " +
+            "ranked AS (" +
+            "SELECT ticket_id, MAX(ts_rank(search_vector, query.q)) AS rank FROM candidates, query GROUP BY ticket_id " +
+            "ORDER BY rank DESC, ticket_id DESC LIMIT :limit OFFSET :offset) " +
+            "SELECT t.id AS id, t.title AS title, " +
+            "ts_headline('english', coalesce(t.description, ''), query.q, 'MaxFragments=1, MinWords=10, MaxWords=30') AS headline, " +
+            "p.id AS projectId, p.name AS projectName, t.priority AS priority, t.status AS status, t.type AS type, " +
+            "t.updated_at AS updatedAt, r.rank AS rank " +
+            "FROM ranked r JOIN tickets t ON t.id = r.ticket_id JOIN projects p ON p.id = t.project_id CROSS JOIN query " +
+            "ORDER BY r.rank DESC, r.ticket_id DESC";
+
+    // Write paths that change a ticket's status load it with a row lock (FOR UPDATE), so concurrent
+    // changes to one ticket see each other's status and move it between the project's status counts
+    // one after the other. Several tickets are locked in id order, like every other multi-row lock.
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Ticket t WHERE t.id = :id")
+    Optional<Ticket> findByIdForUpdate(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Ticket t WHERE t.id IN :ids ORDER BY t.id")
+    List<Ticket> findAllByIdForUpdate(Collection<Long> ids);
 
     List<Ticket> findByProjectId(Long projectId);
 
@@ -17,12 +81,51 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     @Query("SELECT DISTINCT t FROM Ticket t JOIN t.assignedDevelopers u WHERE u.id = :userId")
     List<Ticket> findTicketsByAssignedDeveloperId(Long userId);
 
-    List<Ticket> findByStatus(String status);
+    // Projection read path: scalar columns in one statement, no entity or lazy association loading
+
+    // Unpaged lists are read through a cursor, STREAM_FETCH_SIZE rows per round trip, so a result of any
+    // size is never held in memory at once. Callers must consume them inside a transaction and close them.
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(SUMMARY_SELECT + "ORDER BY t.id")
+    Stream<TicketSummary> streamAllSummaries();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(SUMMARY_SELECT + "WHERE p.id = :projectId ORDER BY t.id")
+    Stream<TicketSummary> streamSummariesByProjectId(Long projectId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(SUMMARY_SELECT + "WHERE t.id IN " +
+            "(SELECT a.id FROM User u JOIN u.assignedTickets a WHERE u.id = :userId) ORDER BY t.id")
+    Stream<TicketSummary> streamSummariesByAssignedDeveloperId(Long userId);
+
+    // Keyset pages: an index range scan on id regardless of how deep the page is
+
+    @Query(SUMMARY_SELECT + "WHERE t.id > :afterId ORDER BY t.id")
+    Slice<TicketSummary> findSummariesAfter(Long afterId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.id = :projectId AND t.id > :afterId ORDER BY t.id")
+    Slice<TicketSummary> findSummariesByProjectIdAfter(Long projectId, Long afterId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE t.id > :afterId AND t.id IN " +
+            "(SELECT a.id FROM User u JOIN u.assignedTickets a WHERE u.id = :userId) ORDER BY t.id")
+    Slice<TicketSummary> findSummariesByAssignedDeveloperIdAfter(Long userId, Long afterId, Pageable pageable);
+
+    @Query(value = SEARCH_QUERY, nativeQuery = true)
+    List<TicketSearchHit> search(String text, Long projectId, int candidates, int limit, int offset);
+
+    @Query("SELECT t.id AS ownerId, u.id AS memberId FROM Ticket t JOIN t.assignedDevelopers u WHERE t.id IN :ticketIds")
+    List<IdPair> findAssignedDeveloperIds(Collection<Long> ticketIds);
+
+    // Aggregate counts for the dashboard: at most one row per status/type/priority combination
 
-    List<Ticket> findByPriority(String priority);
+    @Query(STATS_SELECT + STATS_GROUP_BY)
+    List<TicketStatsRow> countGroupedByStatusTypeAndPriority();
 
-    List<Ticket> findByType(String type);
+    @Query(STATS_SELECT + "WHERE t.project.id = :projectId" + STATS_GROUP_BY)
+    List<TicketStatsRow> countGroupedByStatusTypeAndPriorityForProject(Long projectId);
 
-    @Query("SELECT COUNT(t) FROM Ticket t WHERE t.project.id = :projectId")
-    Long countByProjectId(Long projectId);
-}
\ No newline at end of file
+    @Query(STATS_SELECT + "WHERE t.id IN " +
+            "(SELECT a.id FROM User u JOIN u.assignedTickets a WHERE u.id = :userId)" + STATS_GROUP_BY)
+    List<TicketStatsRow> countGroupedByStatusTypeAndPriorityForAssignedDeveloper(Long userId);
+}
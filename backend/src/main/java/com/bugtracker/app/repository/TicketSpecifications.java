@@ -0,0 +1,79 @@
+package com.bugtracker.app.repository;
+
+import com.bugtracker.app.dto.TicketFilter;
+import com.bugtracker.app.entity.Ticket;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Composable predicates for the ticket query API. Each filter maps onto an indexed column
+ * (see V4__add_ticket_filter_indexes.sql), so any combination resolves to index scans.
+ */
+public final class TicketSpecifications {
+
+    private TicketSpecifications() {
+    }
+
+    public static Specification<Ticket> matching(TicketFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getStatus() != null && !filter.getStatus().isEmpty()) {
+                predicates.add(root.get("status").in(filter.getStatus()));
+            }
+            if (filter.getPriority() != null && !filter.getPriority().isEmpty()) {
+                predicates.add(root.get("priority").in(filter.getPriority()));
+            }
+            if (filter.getType() != null && !filter.getType().isEmpty()) {
+                predicates.add(root.get("type").in(filter.getType()));
+            }
+            if (filter.getProjectId() != null) {
+                predicates.add(cb.equal(root.get("project").get("id"), filter.getProjectId()));
+            }
+            if (filter.getCreatedById() != null) {
+                predicates.add(cb.equal(root.get("createdBy").get("id"), filter.getCreatedById()));
+            }
+            if (filter.getAssigneeId() != null) {
+                // One join row per (ticket, developer), so filtering on a single developer cannot duplicate tickets
+                predicates.add(cb.equal(root.join("assignedDevelopers").get("id"), filter.getAssigneeId()));
+            }
+            if (filter.getCreatedAfter() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getCreatedAfter()));
+            }
+            if (filter.getCreatedBefore() != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), filter.getCreatedBefore()));
+            }
+            if (filter.getUpdatedAfter() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("updatedAt"), filter.getUpdatedAfter()));
+            }
+            if (filter.getUpdatedBefore() != null) {
+                predicates.add(cb.lessThan(root.get("updatedAt"), filter.getUpdatedBefore()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Keyset condition for the page after the row at ({@code id}); ties on the sort column are broken by id.
+     */
+    public static Specification<Ticket> afterId(Long id, boolean descending) {
+        return (root, query, cb) -> descending
+                ? cb.lessThan(root.get("id"), id)
+                : cb.greaterThan(root.get("id"), id);
+    }
+
+    /**
+     * Keyset condition for the page after the row at ({@code value}, {@code id}) when sorting by a timestamp column.
+     */
+    public static Specification<Ticket> afterTimestamp(String attribute, LocalDateTime value, Long id,
+                                                       boolean descending) {
+        return (root, query, cb) -> descending
+                ? cb.or(cb.lessThan(root.get(attribute), value),
+                        cb.and(cb.equal(root.get(attribute), value), cb.lessThan(root.get("id"), id)))
+                : cb.or(cb.greaterThan(root.get(attribute), value),
+                        cb.and(cb.equal(root.get(attribute), value), cb.greaterThan(root.get("id"), id)));
+    }
+}
@@ -0,0 +1,6 @@
+package com.bugtracker.app.repository.projection;
+
+public interface IdPair {
+    Long getOwnerId();
+    Long getMemberId();
+}
@@ -0,0 +1,14 @@
+package com.bugtracker.app.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface ProjectSummary extends TicketStatusCounts {
+    Long getId();
+    String getName();
+    String getDescription();
+    Long getCreatedById();
+    String getCreatedByFirstName();
+    String getCreatedByLastName();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
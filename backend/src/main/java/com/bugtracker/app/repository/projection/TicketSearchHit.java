@@ -0,0 +1,17 @@
+package com.bugtracker.app.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface TicketSearchHit {
+    Long getId();
+    String getTitle();
+    String getHeadline();
+    Long getProjectId();
+    String getProjectName();
+    // Native query: enum columns arrive as their stored codes
+    Short getPriority();
+    Short getStatus();
+    Short getType();
+    LocalDateTime getUpdatedAt();
+    Float getRank();
+}
@@ -0,0 +1,12 @@
+package com.bugtracker.app.repository.projection;
+
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
+
+public interface TicketStatsRow {
+    TicketStatus getStatus();
+    TicketType getType();
+    TicketPriority getPriority();
+    Long getCount();
+}
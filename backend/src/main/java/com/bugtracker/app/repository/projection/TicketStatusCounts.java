@@ -0,0 +1,7 @@
+package com.bugtracker.app.repository.projection;
+
+public interface TicketStatusCounts {
+    Integer getOpenTicketCount();
+    Integer getInProgressTicketCount();
+    Integer getClosedTicketCount();
+}
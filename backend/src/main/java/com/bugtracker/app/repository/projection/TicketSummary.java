@@ -0,0 +1,25 @@
+package com.bugtracker.app.repository.projection;
+
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
+
+import java.time.LocalDateTime;
+
+public interface TicketSummary {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    Long getProjectId();
+    String getProjectName();
+    Long getCreatedById();
+    String getCreatedByFirstName();
+    String getCreatedByLastName();
+    TicketPriority getPriority();
+    TicketStatus getStatus();
+    TicketType getType();
+    Integer getTimeEstimate();
+    Integer getCommentCount();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
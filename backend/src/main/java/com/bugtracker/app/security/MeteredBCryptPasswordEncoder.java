@@ -0,0 +1,56 @@
+package com.bugtracker.app.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt with a configurable cost that records hash and verify latency
+ * ({@code bugtracker.password.hash}, tagged by {@code operation}). Any stored hash whose cost differs
+ * from the configured one is reported as needing an upgrade, so Spring Security rehashes it on the
+ * user's next successful login; that includes lowering the cost, which BCryptPasswordEncoder alone
+ * ignores.
+ */
+public class MeteredBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private final int strength;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public MeteredBCryptPasswordEncoder(int strength, MeterRegistry meterRegistry) {
+        super(strength);
+        this.strength = strength;
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> super.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return matchesTimer.record(() -> super.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Hashes look like $2a$10$<salt+hash>; the two digits after the version are the cost
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return super.upgradeEncoding(encodedPassword);
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+        } catch (NumberFormatException e) {
+            return super.upgradeEncoding(encodedPassword);
+        }
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("bugtracker.password.hash")
+                .description("BCrypt hash and verify latency")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,93 @@
+package com.bugtracker.app.security;
+
+import com.bugtracker.app.exception.TooManyRequestsException;
+import com.bugtracker.app.logging.MdcTaskDecorator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing and verification (BCrypt is deliberately CPU-heavy) on a small fixed pool
+ * with a bounded queue, so that a burst of logins can't take over the request threads. When the
+ * queue is full, work is refused straight away with a {@link TooManyRequestsException} (429)
+ * instead of waiting. Queue depth, active workers, queue wait and rejections are exposed as
+ * {@code bugtracker.password.hashing.*} meters.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final MdcTaskDecorator mdcTaskDecorator;
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(@Value("${security.password-hashing.threads}") int threads,
+                                   @Value("${security.password-hashing.queue-capacity}") int queueCapacity,
+                                   MdcTaskDecorator mdcTaskDecorator,
+                                   MeterRegistry meterRegistry) {
+        if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.mdcTaskDecorator = mdcTaskDecorator;
+        this.queueWait = Timer.builder("bugtracker.password.hashing.wait")
+                .description("Time password work waits for a hashing thread")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("bugtracker.password.hashing.rejected")
+                .description("Password work refused because the hashing queue was full")
+                .register(meterRegistry);
+        Gauge.builder("bugtracker.password.hashing.queue", executor, e -> e.getQueue().size())
+                .description("Password work waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("bugtracker.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing threads busy")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues {@code task} on the hashing pool. Throws {@link TooManyRequestsException} immediately if
+     * the queue is full.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long queuedAt = System.nanoTime();
+        try {
+            // Carry the request's logging context (correlation id) over to the hashing thread
+            executor.execute(mdcTaskDecorator.decorate(() -> {
+                queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    result.complete(task.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TooManyRequestsException("Too many sign-in attempts in progress, please retry shortly");
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
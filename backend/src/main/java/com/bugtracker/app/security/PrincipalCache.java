@@ -0,0 +1,66 @@
+package com.bugtracker.app.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based cache of authenticated principals keyed by email, so that requests carrying
+ * a valid JWT don't need a users table lookup. Entries must be invalidated when a user's
+ * authorities change or the user is deleted.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public PrincipalCache(@Value("${security.principal-cache.max-size}") long maxSize,
+                          @Value("${security.principal-cache.ttl}") Duration ttl,
+                          ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "principals"));
+    }
+
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        return cache.get(email, key -> {
+            UserDetails userDetails = loader.apply(key);
+            // Only authorities are needed after authentication; don't keep password hashes in memory
+            if (userDetails instanceof CredentialsContainer credentials) {
+                credentials.eraseCredentials();
+            }
+            return userDetails;
+        });
+    }
+
+    /**
+     * Invalidates the entry once the current transaction commits (immediately without one): before
+     * that, a request could still load the old authorities and cache them for the whole TTL.
+     */
+    public void invalidateAfterCommit(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(email);
+            }
+        });
+    }
+}
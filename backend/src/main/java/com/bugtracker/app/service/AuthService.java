@@ -3,18 +3,22 @@ package com.bugtracker.app.service;
 import com.bugtracker.app.dto.JwtResponse;
 import com.bugtracker.app.dto.LoginRequest;
 import com.bugtracker.app.dto.RegisterRequest;
+import com.bugtracker.app.entity.AuthorityLevel;
 import com.bugtracker.app.entity.User;
 import com.bugtracker.app.repository.UserRepository;
 import com.bugtracker.app.security.JwtTokenProvider;
+import com.bugtracker.app.security.PasswordHashingExecutor;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
+@Timed("bugtracker.service")
 public class AuthService {
 
     @Autowired
@@ -29,38 +33,49 @@ public class AuthService {
     @Autowired
     private JwtTokenProvider tokenProvider;
 
-    public JwtResponse login(LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword())
-        );
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    /**
+     * Verifies the credentials on the password hashing pool, so the request thread is released while
+     * BCrypt runs. Throws TooManyRequestsException straight away when that pool is saturated.
+     */
+    public CompletableFuture<JwtResponse> login(LoginRequest loginRequest) {
+        UsernamePasswordAuthenticationToken credentials =
+                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword());
 
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        String jwt = tokenProvider.generateToken(authentication);
+        return passwordHashingExecutor.submit(() -> authenticationManager.authenticate(credentials))
+                .thenApply(authentication -> {
+                    String jwt = tokenProvider.generateToken(authentication);
 
-        User user = userRepository.findByEmail(loginRequest.getEmail())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                    User user = userRepository.findByEmail(loginRequest.getEmail())
+                            .orElseThrow(() -> new RuntimeException("User not found"));
 
-        return new JwtResponse(jwt, user.getId(), user.getEmail(),
-                user.getFirstName(), user.getLastName(), user.getAuthorityLevel());
+                    return new JwtResponse(jwt, user.getId(), user.getEmail(),
+                            user.getFirstName(), user.getLastName(), user.getAuthorityLevel());
+                });
     }
 
-    public JwtResponse register(RegisterRequest registerRequest) {
+    public CompletableFuture<JwtResponse> register(RegisterRequest registerRequest) {
         if (userRepository.existsByEmail(registerRequest.getEmail())) {
             throw new RuntimeException("Email already in use");
         }
 
-        User user = new User();
-        user.setEmail(registerRequest.getEmail());
-        user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
-        user.setFirstName(registerRequest.getFirstName());
-        user.setLastName(registerRequest.getLastName());
-        user.setAuthorityLevel("USER");
+        return passwordHashingExecutor.submit(() -> passwordEncoder.encode(registerRequest.getPassword()))
+                .thenApply(encodedPassword -> {
+                    User user = new User();
+                    user.setEmail(registerRequest.getEmail());
+                    user.setPassword(encodedPassword);
+                    user.setFirstName(registerRequest.getFirstName());
+                    user.setLastName(registerRequest.getLastName());
+                    user.setAuthorityLevel(AuthorityLevel.USER);
 
-        user = userRepository.save(user);
+                    user = userRepository.save(user);
 
-        String jwt = tokenProvider.generateToken(user.getEmail());
+                    String jwt = tokenProvider.generateToken(user.getEmail());
 
-        return new JwtResponse(jwt, user.getId(), user.getEmail(),
-                user.getFirstName(), user.getLastName(), user.getAuthorityLevel());
+                    return new JwtResponse(jwt, user.getId(), user.getEmail(),
+                            user.getFirstName(), user.getLastName(), user.getAuthorityLevel());
+                });
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.bugtracker.app.service;
 
 import com.bugtracker.app.dto.CommentDto;
+import com.bugtracker.app.dto.CursorPage;
+import com.bugtracker.app.dto.ProjectEvent;
 import com.bugtracker.app.entity.Comment;
 import com.bugtracker.app.entity.Ticket;
 import com.bugtracker.app.entity.User;
@@ -8,7 +10,10 @@ import com.bugtracker.app.exception.ResourceNotFoundException;
 import com.bugtracker.app.repository.CommentRepository;
 import com.bugtracker.app.repository.TicketRepository;
 import com.bugtracker.app.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +21,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("bugtracker.service")
 public class CommentService {
 
     @Autowired
@@ -27,12 +33,27 @@ public class CommentService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TicketCounterService ticketCounterService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public List<CommentDto> getCommentsByTicketId(Long ticketId) {
         return commentRepository.findByTicketId(ticketId).stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
 
+    public CursorPage<CommentDto> getCommentsPageByTicketId(Long ticketId, String after, int limit) {
+        Slice<Comment> slice = commentRepository.findByTicketIdAndIdGreaterThanOrderByIdAsc(
+                ticketId, CursorPage.decodeCursor(after), CursorPage.pageRequest(limit));
+        List<CommentDto> dtos = slice.getContent().stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+        return CursorPage.of(dtos, slice.hasNext(), CommentDto::getId);
+    }
+
     public CommentDto getCommentById(Long id) {
         Comment comment = commentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found with id: " + id));
@@ -52,8 +73,12 @@ public class CommentService {
         comment.setTicket(ticket);
         comment.setUser(user);
 
-        comment = commentRepository.save(comment);
-        return convertToDto(comment);
+        // Sequence ids defer the INSERT to flush; flush now so the response carries the creation timestamps
+        comment = commentRepository.saveAndFlush(comment);
+        CommentDto created = convertToDto(comment);
+        ticketCounterService.adjustCommentCount(ticket.getId(), 1);
+        eventPublisher.publishEvent(ProjectEvent.commentAdded(ticket.getProject().getId(), created));
+        return created;
     }
 
     @Transactional
@@ -63,13 +88,19 @@ public class CommentService {
 
         comment.setContent(commentDto.getContent());
         comment = commentRepository.save(comment);
-        return convertToDto(comment);
+        CommentDto updated = convertToDto(comment);
+        eventPublisher.publishEvent(ProjectEvent.commentUpdated(comment.getTicket().getProject().getId(), updated));
+        return updated;
     }
 
+    @Transactional
     public void deleteComment(Long id) {
         Comment comment = commentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found with id: " + id));
         commentRepository.delete(comment);
+        Ticket ticket = comment.getTicket();
+        ticketCounterService.adjustCommentCount(ticket.getId(), -1);
+        eventPublisher.publishEvent(ProjectEvent.commentDeleted(ticket.getProject().getId(), ticket.getId(), id));
     }
 
     private CommentDto convertToDto(Comment comment) {
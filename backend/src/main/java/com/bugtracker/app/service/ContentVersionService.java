@@ -0,0 +1,127 @@
+package com.bugtracker.app.service;
+
+import com.bugtracker.app.dto.ProjectEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Version tokens for conditional GETs. Each project carries a change counter and timestamp
+ * ({@code projects.content_version}, {@code content_updated_at}) that is bumped in the same
+ * transaction as any change to the project, its team, or its tickets, assignments and comments:
+ * every such change publishes a {@link ProjectEvent}, and project edits call {@link #bump}
+ * directly. Changes that show up in every project's responses, such as user edits, bump the single
+ * row of {@code global_content_version} instead ({@link #bumpGlobal}), which is part of every
+ * version. Lookups are a single indexed read, so an unchanged resource can be answered with 304
+ * before anything else is loaded.
+ * <p>
+ * Controllers must read the version before building the response body. A change committed in
+ * between then yields a newer body under an older tag, which only costs the client a full
+ * response on its next request; the reverse would serve stale data.
+ */
+@Service
+public class ContentVersionService {
+
+    // Subqueries rather than a join, so that a missing row (as in the load-test schema) reads as version 0
+    private static final String GLOBAL_VERSION = "COALESCE((SELECT g.version FROM global_content_version g), 0), "
+            + "(SELECT g.updated_at FROM global_content_version g)";
+
+    private static final String PROJECT_VERSION = "SELECT p.id, p.content_version, p.content_updated_at, "
+            + GLOBAL_VERSION + " FROM projects p";
+
+    // Part of every tag, so that responses cached before a restart (possibly from an older build
+    // with a different JSON shape) are never revalidated
+    private final String instanceTag = Long.toString(System.currentTimeMillis(), 36);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * An entity tag and last-modified time for one response.
+     */
+    public record Version(String etag, Instant lastModified) {
+
+        /**
+         * The version of another representation of the same content, such as its gzip encoding,
+         * which must not share the tag (strong tags promise byte-identical bodies).
+         */
+        public Version variant(String name) {
+            return new Version(etag + "-" + name, lastModified);
+        }
+    }
+
+    public Optional<Version> forProject(Long projectId) {
+        return first(jdbcTemplate.query(PROJECT_VERSION + " WHERE p.id = ?", this::mapProjectVersion, projectId));
+    }
+
+    public Optional<Version> forTicket(Long ticketId) {
+        return first(jdbcTemplate.query(PROJECT_VERSION + " JOIN tickets t ON t.project_id = p.id WHERE t.id = ?",
+                this::mapProjectVersion, ticketId));
+    }
+
+    public Optional<Version> forComment(Long commentId) {
+        return first(jdbcTemplate.query(PROJECT_VERSION
+                        + " JOIN tickets t ON t.project_id = p.id JOIN comments c ON c.ticket_id = t.id WHERE c.id = ?",
+                this::mapProjectVersion, commentId));
+    }
+
+    /**
+     * Version of everything, for responses that span projects. Counters only grow, so the sum
+     * changes with every bump; the count and latest timestamp cover projects being created or deleted.
+     */
+    public Version forAll() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*), COALESCE(SUM(content_version), 0), "
+                        + "MAX(content_updated_at), " + GLOBAL_VERSION + " FROM projects",
+                (rs, rowNum) -> {
+                    Instant lastModified = latest(rs.getTimestamp(3), rs.getTimestamp(5));
+                    return new Version(instanceTag + "-all-" + rs.getLong(1) + "-" + rs.getLong(2) + "-"
+                            + rs.getLong(4) + "-" + lastModified.toEpochMilli(), lastModified);
+                });
+    }
+
+    @EventListener
+    public void onProjectEvent(ProjectEvent event) {
+        bump(event.getProjectId());
+    }
+
+    public void bump(Long projectId) {
+        jdbcTemplate.update("UPDATE projects SET content_version = content_version + 1, "
+                + "content_updated_at = CURRENT_TIMESTAMP WHERE id = ?", projectId);
+    }
+
+    /**
+     * For changes that can show up in any project's responses, such as a user's name. Locks one row,
+     * not every project.
+     */
+    public void bumpGlobal() {
+        jdbcTemplate.update("UPDATE global_content_version SET version = version + 1, "
+                + "updated_at = CURRENT_TIMESTAMP WHERE id = 1");
+    }
+
+    private Version mapProjectVersion(ResultSet rs, int rowNum) throws SQLException {
+        return new Version(instanceTag + "-p" + rs.getLong(1) + "-" + rs.getLong(2) + "-" + rs.getLong(4),
+                latest(rs.getTimestamp(3), rs.getTimestamp(5)));
+    }
+
+    private static Instant latest(Timestamp first, Timestamp second) {
+        Instant a = toInstant(first);
+        Instant b = toInstant(second);
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : Instant.EPOCH;
+    }
+
+    private static Optional<Version> first(List<Version> versions) {
+        return versions.stream().findFirst();
+    }
+}
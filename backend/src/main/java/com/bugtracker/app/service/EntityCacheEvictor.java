@@ -0,0 +1,68 @@
+package com.bugtracker.app.service;
+
+import com.bugtracker.app.entity.Project;
+import com.bugtracker.app.entity.Ticket;
+import com.bugtracker.app.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Evicts second-level cache entries that Hibernate can't keep current by itself, i.e. rows changed
+ * by SQL rather than through the entity manager. The database cascades deletes of users and
+ * projects into user_projects (and of users into dev_assignments), so cached membership and
+ * assignee collections on the other side would keep pointing at the deleted row; batch edits and
+ * imports write dev_assignments with JDBC. Eviction runs after commit so that a concurrent reader can't put
+ * the old state back before the change is visible.
+ */
+@Component
+public class EntityCacheEvictor {
+
+    private static final String PROJECT_TEAM_MEMBERS = Project.class.getName() + ".teamMembers";
+    private static final String USER_PROJECTS = User.class.getName() + ".projects";
+    private static final String TICKET_ASSIGNED_DEVELOPERS = Ticket.class.getName() + ".assignedDevelopers";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public void evictTeamMembershipAfterCommit() {
+        afterCommit(cache -> {
+            cache.evictCollectionData(PROJECT_TEAM_MEMBERS);
+            cache.evictCollectionData(USER_PROJECTS);
+        });
+    }
+
+    public void evictAssignedDevelopersAfterCommit() {
+        afterCommit(cache -> cache.evictCollectionData(TICKET_ASSIGNED_DEVELOPERS));
+    }
+
+    public void evictAssignedDevelopersAfterCommit(Collection<Long> ticketIds) {
+        List<Long> ids = List.copyOf(ticketIds);
+        afterCommit(cache -> ids.forEach(id -> cache.evictCollectionData(TICKET_ASSIGNED_DEVELOPERS, id)));
+    }
+
+    private void afterCommit(Consumer<Cache> eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.accept(cache());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.accept(cache());
+            }
+        });
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
@@ -0,0 +1,255 @@
+package com.bugtracker.app.service;
+
+import com.bugtracker.app.dto.ProjectEvent;
+import com.bugtracker.app.repository.ProjectRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans {@link ProjectEvent}s out to Server-Sent Event subscribers. Services publish events inside
+ * their transactions and they are delivered here only after commit, so subscribers never see
+ * changes that were rolled back.
+ *
+ * <p>Each subscriber has a bounded buffer drained by its own sender thread, so a slow or stalled
+ * client never blocks the request that made the change, nor delivery to other subscribers (sending
+ * is a blocking write). Sender threads exist only while a buffer is being drained. When a buffer
+ * overflows, its pending events are discarded and replaced by a single RESYNC event telling the
+ * client to refetch; if it overflows again before that RESYNC was even sent, the client is treated
+ * as stalled and disconnected (EventSource reconnects once it recovers).
+ */
+@Service
+public class ProjectEventStream {
+
+    // Queued on idle subscribers to detect dead connections and keep proxies from timing them out
+    private static final ProjectEvent HEARTBEAT = new ProjectEvent();
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong droppedSubscribers = new AtomicLong();
+    private final ProjectRepository projectRepository;
+    private final ContentVersionService contentVersionService;
+    private final ExecutorService sender;
+    private final ScheduledExecutorService heartbeats;
+    private final int bufferSize;
+    private final Duration timeout;
+
+    public ProjectEventStream(ProjectRepository projectRepository,
+                              ContentVersionService contentVersionService,
+                              @Value("${stream.buffer-size}") int bufferSize,
+                              @Value("${stream.timeout}") Duration timeout,
+                              @Value("${stream.heartbeat-interval}") Duration heartbeatInterval,
+                              ObjectProvider<MeterRegistry> meterRegistry) {
+        this.projectRepository = projectRepository;
+        this.contentVersionService = contentVersionService;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Unbounded, but a thread only runs while one subscriber's buffer drains, and a stalled
+        // subscriber is disconnected after two overflows
+        this.sender = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long heartbeatMillis = heartbeatInterval.toMillis();
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("bugtracker.stream.subscribers", this, ProjectEventStream::subscriberCount)
+                    .register(registry);
+            FunctionCounter.builder("bugtracker.stream.dropped.events", droppedEvents, AtomicLong::get)
+                    .register(registry);
+            FunctionCounter.builder("bugtracker.stream.dropped.subscribers", droppedSubscribers, AtomicLong::get)
+                    .description("Subscribers disconnected because they stopped reading")
+                    .register(registry);
+        });
+    }
+
+    /**
+     * Opens a stream for the project, or returns empty if there is no such project. {@code version}
+     * is the ETag the client's copy of the project was loaded with, if any.
+     */
+    public Optional<SseEmitter> subscribe(Long projectId, String version) {
+        if (!projectRepository.existsById(projectId)) {
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(projectId, emitter);
+        subscribers.computeIfAbsent(projectId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        // Let the client reconnect (EventSource does so automatically) rather than fail the request
+        emitter.onTimeout(emitter::complete);
+
+        // Events are not replayed, so anything committed before this point (while the client was
+        // loading the project or reconnecting) may have been missed; start the stream with a refetch
+        // unless the project is still at the client's version. Read after registering, so any later
+        // change arrives as an event
+        if (!isCurrent(projectId, version)) {
+            subscriber.offer(ProjectEvent.resync(projectId));
+        }
+        return Optional.of(emitter);
+    }
+
+    private boolean isCurrent(Long projectId, String version) {
+        if (version == null) {
+            return false;
+        }
+        // The ETag header as the client received it: quoted, and possibly marked weak by a proxy
+        String etag = (version.startsWith("W/") ? version.substring(2) : version).replace("\"", "");
+        return contentVersionService.forProject(projectId)
+                .filter(current -> current.etag().equals(etag))
+                .isPresent();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publish(ProjectEvent event) {
+        Set<Subscriber> projectSubscribers = subscribers.get(event.getProjectId());
+        if (projectSubscribers != null) {
+            for (Subscriber subscriber : projectSubscribers) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        sender.shutdownNow();
+        subscribers.values().forEach(projectSubscribers -> projectSubscribers.forEach(s -> s.emitter.complete()));
+        subscribers.clear();
+    }
+
+    private void sendHeartbeats() {
+        subscribers.values().forEach(projectSubscribers -> projectSubscribers.forEach(Subscriber::offerHeartbeat));
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.projectId, (id, projectSubscribers) -> {
+            projectSubscribers.remove(subscriber);
+            return projectSubscribers.isEmpty() ? null : projectSubscribers;
+        });
+    }
+
+    private final class Subscriber {
+
+        private final Long projectId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<ProjectEvent> buffer = new ArrayDeque<>();
+        private boolean draining;
+        private boolean stalled;
+
+        private Subscriber(Long projectId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+        }
+
+        void offer(ProjectEvent event) {
+            synchronized (this) {
+                if (stalled) {
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    droppedEvents.addAndGet(buffer.size());
+                    // Not even the last RESYNC went out: the client stopped reading. Completing the
+                    // emitter here would wait for the blocked send, so the sender thread does it
+                    if (buffer.peekFirst().getType() == ProjectEvent.Type.RESYNC) {
+                        buffer.clear();
+                        stalled = true;
+                        droppedSubscribers.incrementAndGet();
+                        remove(this);
+                        return;
+                    }
+                    // Deltas after a gap can't be applied safely, so the client has to refetch anyway
+                    buffer.clear();
+                    buffer.add(ProjectEvent.resync(projectId));
+                }
+                buffer.add(event);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+            }
+        }
+
+        void offerHeartbeat() {
+            synchronized (this) {
+                if (draining || !buffer.isEmpty()) {
+                    return;
+                }
+            }
+            offer(HEARTBEAT);
+        }
+
+        private void drain() {
+            while (true) {
+                ProjectEvent event;
+                synchronized (this) {
+                    event = buffer.poll();
+                    if (event == null) {
+                        draining = false;
+                        if (stalled) {
+                            emitter.complete();
+                        }
+                        return;
+                    }
+                }
+                try {
+                    if (event == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event().data(event, MediaType.APPLICATION_JSON));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // Client went away or the emitter already completed; the container reports the error
+                    remove(this);
+                    synchronized (this) {
+                        buffer.clear();
+                        draining = false;
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.bugtracker.app.service;
+
+import com.bugtracker.app.dto.CommentDto;
+import com.bugtracker.app.dto.TicketExportDto;
+import com.bugtracker.app.entity.CodedEnum;
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Full dumps of a project's tickets, assignees and comments for {@code /api/projects/{id}/export}.
+ * <p>
+ * Tickets and comments are read through two server-side cursors over one connection, both ordered
+ * by ticket id, and merged as they are read; assignee ids come back with each ticket row. Only the
+ * ticket being assembled is held in memory, whatever the size of the project. The transaction is
+ * REPEATABLE READ so that both cursors see the same snapshot.
+ */
+@Service
+@Timed("bugtracker.service")
+public class ProjectExportService {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String TICKETS_SQL = "SELECT t.id, t.title, t.description, t.priority, t.status, t.type, " +
+            "t.time_estimate, t.created_at, t.updated_at, u.id AS created_by_id, u.first_name, u.last_name, " +
+            "ARRAY(SELECT da.user_id FROM dev_assignments da WHERE da.ticket_id = t.id ORDER BY da.user_id) " +
+            "AS assignee_ids " +
+            "FROM tickets t LEFT JOIN users u ON u.id = t.created_by " +
+            "WHERE t.project_id = ? ORDER BY t.id";
+
+    private static final String COMMENTS_SQL = "SELECT c.id, c.ticket_id, c.content, c.user_id, " +
+            "u.first_name, u.last_name, c.created_at, c.updated_at " +
+            "FROM comments c JOIN tickets t ON t.id = c.ticket_id JOIN users u ON u.id = c.user_id " +
+            "WHERE t.project_id = ? ORDER BY c.ticket_id, c.id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Passes each of the project's tickets, in id order and with its comments attached, to
+     * {@code action} as soon as it has been read. The caller checks that the project exists.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void exportTickets(Long projectId, Consumer<TicketExportDto> action) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement tickets = prepareCursor(connection, TICKETS_SQL, projectId);
+                 PreparedStatement comments = prepareCursor(connection, COMMENTS_SQL, projectId);
+                 ResultSet ticketRows = tickets.executeQuery();
+                 ResultSet commentRows = comments.executeQuery()) {
+                boolean moreComments = commentRows.next();
+                while (ticketRows.next()) {
+                    TicketExportDto ticket = mapTicket(ticketRows);
+                    // Comments whose ticket was not in the ticket cursor (none in a consistent snapshot) are skipped
+                    while (moreComments && commentRows.getLong("ticket_id") < ticket.getId()) {
+                        moreComments = commentRows.next();
+                    }
+                    while (moreComments && commentRows.getLong("ticket_id") == ticket.getId()) {
+                        ticket.getComments().add(mapComment(commentRows));
+                        moreComments = commentRows.next();
+                    }
+                    action.accept(ticket);
+                }
+            }
+            return null;
+        });
+    }
+
+    private PreparedStatement prepareCursor(Connection connection, String sql, Long projectId) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY);
+        // A non-zero fetch size inside a transaction makes the PostgreSQL driver read through a cursor
+        statement.setFetchSize(FETCH_SIZE);
+        statement.setLong(1, projectId);
+        return statement;
+    }
+
+    private TicketExportDto mapTicket(ResultSet rs) throws SQLException {
+        TicketExportDto ticket = new TicketExportDto();
+        ticket.setId(rs.getLong("id"));
+        ticket.setTitle(rs.getString("title"));
+        ticket.setDescription(rs.getString("description"));
+        ticket.setPriority(CodedEnum.fromCode(TicketPriority.class, getShort(rs, "priority")));
+        ticket.setStatus(CodedEnum.fromCode(TicketStatus.class, getShort(rs, "status")));
+        ticket.setType(CodedEnum.fromCode(TicketType.class, getShort(rs, "type")));
+        int timeEstimate = rs.getInt("time_estimate");
+        ticket.setTimeEstimate(rs.wasNull() ? null : timeEstimate);
+        ticket.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        ticket.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        long createdById = rs.getLong("created_by_id");
+        if (!rs.wasNull()) {
+            ticket.setCreatedById(createdById);
+            ticket.setCreatedByName(rs.getString("first_name") + " " + rs.getString("last_name"));
+        }
+        Array assigneeIds = rs.getArray("assignee_ids");
+        for (Object id : (Object[]) assigneeIds.getArray()) {
+            ticket.getAssignedDeveloperIds().add(((Number) id).longValue());
+        }
+        assigneeIds.free();
+        return ticket;
+    }
+
+    private CommentDto mapComment(ResultSet rs) throws SQLException {
+        CommentDto comment = new CommentDto();
+        comment.setId(rs.getLong("id"));
+        comment.setTicketId(rs.getLong("ticket_id"));
+        comment.setContent(rs.getString("content"));
+        comment.setUserId(rs.getLong("user_id"));
+        comment.setUserName(rs.getString("first_name") + " " + rs.getString("last_name"));
+        comment.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        comment.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        return comment;
+    }
+
+    private static Short getShort(ResultSet rs, String column) throws SQLException {
+        short value = rs.getShort(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
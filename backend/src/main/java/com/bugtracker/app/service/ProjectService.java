@@ -1,23 +1,36 @@
 package com.bugtracker.app.service;
 
+import com.bugtracker.app.dto.CursorPage;
 import com.bugtracker.app.dto.ProjectDto;
 import com.bugtracker.app.entity.Project;
 import com.bugtracker.app.entity.User;
 import com.bugtracker.app.exception.ResourceNotFoundException;
 import com.bugtracker.app.repository.ProjectRepository;
-import com.bugtracker.app.repository.TicketRepository;
 import com.bugtracker.app.repository.UserRepository;
+import com.bugtracker.app.repository.projection.IdPair;
+import com.bugtracker.app.repository.projection.ProjectSummary;
+import com.bugtracker.app.repository.projection.TicketStatusCounts;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("bugtracker.service")
 public class ProjectService {
 
+    // Keeps IN lists well below PostgreSQL's bind parameter limit
+    private static final int BATCH_LOOKUP_SIZE = 1000;
+
     @Autowired
     private ProjectRepository projectRepository;
 
@@ -25,12 +38,13 @@ public class ProjectService {
     private UserRepository userRepository;
 
     @Autowired
-    private TicketRepository ticketRepository;
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @Autowired
+    private ContentVersionService contentVersionService;
 
     public List<ProjectDto> getAllProjects() {
-        return projectRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return convertSummariesToDtos(projectRepository.findAllSummaries());
     }
 
     public ProjectDto getProjectById(Long id) {
@@ -40,9 +54,17 @@ public class ProjectService {
     }
 
     public List<ProjectDto> getProjectsByUserId(Long userId) {
-        return projectRepository.findProjectsByTeamMemberId(userId).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return convertSummariesToDtos(projectRepository.findSummariesByTeamMemberId(userId));
+    }
+
+    public CursorPage<ProjectDto> getProjectsPage(String after, int limit) {
+        return convertSummariesToPage(projectRepository.findSummariesAfter(
+                CursorPage.decodeCursor(after), CursorPage.pageRequest(limit)));
+    }
+
+    public CursorPage<ProjectDto> getProjectsPageByUserId(Long userId, String after, int limit) {
+        return convertSummariesToPage(projectRepository.findSummariesByTeamMemberIdAfter(
+                userId, CursorPage.decodeCursor(after), CursorPage.pageRequest(limit)));
     }
 
     @Transactional
@@ -61,7 +83,8 @@ public class ProjectService {
         project.getTeamMembers().add(creator);
         creator.getProjects().add(project);
 
-        project = projectRepository.save(project);
+        // Sequence ids defer the INSERT to flush; flush now so the response carries the creation timestamps
+        project = projectRepository.saveAndFlush(project);
         return convertToDto(project);
     }
 
@@ -74,6 +97,8 @@ public class ProjectService {
         project.setDescription(projectDto.getDescription());
 
         project = projectRepository.save(project);
+        // Project names appear in ticket responses too
+        contentVersionService.bump(id);
         return convertToDto(project);
     }
 
@@ -87,6 +112,7 @@ public class ProjectService {
         project.getTeamMembers().add(user);
         user.getProjects().add(project);
         projectRepository.save(project);
+        contentVersionService.bump(projectId);
     }
 
     @Transactional
@@ -99,12 +125,59 @@ public class ProjectService {
         project.getTeamMembers().remove(user);
         user.getProjects().remove(project);
         projectRepository.save(project);
+        contentVersionService.bump(projectId);
     }
 
     public void deleteProject(Long id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
         projectRepository.delete(project);
+        // The database cascades the delete into user_projects behind the cached per-user project lists
+        entityCacheEvictor.evictTeamMembershipAfterCommit();
+    }
+
+    private CursorPage<ProjectDto> convertSummariesToPage(Slice<ProjectSummary> slice) {
+        return CursorPage.of(convertSummariesToDtos(slice.getContent()), slice.hasNext(), ProjectDto::getId);
+    }
+
+    /**
+     * Builds DTOs for a list of project summaries with one batched lookup for team members per
+     * {@value #BATCH_LOOKUP_SIZE} projects, instead of lazy loads per row. Ticket counts come with the
+     * summaries.
+     */
+    private List<ProjectDto> convertSummariesToDtos(List<ProjectSummary> summaries) {
+        List<ProjectDto> dtos = new ArrayList<>(summaries.size());
+        for (int from = 0; from < summaries.size(); from += BATCH_LOOKUP_SIZE) {
+            List<ProjectSummary> batch = summaries.subList(from, Math.min(from + BATCH_LOOKUP_SIZE, summaries.size()));
+            List<Long> projectIds = batch.stream().map(ProjectSummary::getId).collect(Collectors.toList());
+
+            Map<Long, Set<Long>> teamMemberIds = new HashMap<>();
+            for (IdPair pair : projectRepository.findTeamMemberIds(projectIds)) {
+                teamMemberIds.computeIfAbsent(pair.getOwnerId(), id -> new HashSet<>()).add(pair.getMemberId());
+            }
+
+            for (ProjectSummary summary : batch) {
+                dtos.add(convertToDto(summary,
+                        teamMemberIds.getOrDefault(summary.getId(), new HashSet<>())));
+            }
+        }
+        return dtos;
+    }
+
+    private ProjectDto convertToDto(ProjectSummary summary, Set<Long> teamMemberIds) {
+        ProjectDto dto = new ProjectDto();
+        dto.setId(summary.getId());
+        dto.setName(summary.getName());
+        dto.setDescription(summary.getDescription());
+        if (summary.getCreatedById() != null) {
+            dto.setCreatedById(summary.getCreatedById());
+            dto.setCreatedByName(summary.getCreatedByFirstName() + " " + summary.getCreatedByLastName());
+        }
+        dto.setCreatedAt(summary.getCreatedAt());
+        dto.setUpdatedAt(summary.getUpdatedAt());
+        dto.setTeamMemberIds(teamMemberIds);
+        setTicketCounts(dto, summary);
+        return dto;
     }
 
     private ProjectDto convertToDto(Project project) {
@@ -124,9 +197,16 @@ public class ProjectService {
                 .collect(Collectors.toSet());
         dto.setTeamMemberIds(teamMemberIds);
 
-        Long ticketCount = ticketRepository.countByProjectId(project.getId());
-        dto.setTicketCount(ticketCount.intValue());
+        setTicketCounts(dto, projectRepository.findTicketCountsById(project.getId()));
 
         return dto;
     }
+
+    private static void setTicketCounts(ProjectDto dto, TicketStatusCounts counts) {
+        dto.setOpenTicketCount(counts.getOpenTicketCount());
+        dto.setInProgressTicketCount(counts.getInProgressTicketCount());
+        dto.setClosedTicketCount(counts.getClosedTicketCount());
+        dto.setTicketCount(counts.getOpenTicketCount() + counts.getInProgressTicketCount()
+                + counts.getClosedTicketCount());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.bugtracker.app.service;
+
+import com.bugtracker.app.dto.CursorPage;
+import com.bugtracker.app.dto.SearchHitDto;
+import com.bugtracker.app.entity.CodedEnum;
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
+import com.bugtracker.app.exception.BadRequestException;
+import com.bugtracker.app.repository.TicketRepository;
+import com.bugtracker.app.repository.projection.TicketSearchHit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class SearchService {
+
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Value("${search.max-candidates}")
+    private int maxCandidates;
+
+    public CursorPage<SearchHitDto> searchTickets(String query, Long projectId, String after, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+
+        int offset = CursorPage.decodeOffsetCursor(after);
+        int pageSize = CursorPage.clampLimit(limit);
+
+        // One extra row tells us whether there is another page without a separate count query
+        List<TicketSearchHit> hits = ticketRepository.search(
+                query.trim(), projectId, maxCandidates, pageSize + 1, offset);
+        boolean hasMore = hits.size() > pageSize;
+        List<SearchHitDto> items = hits.stream()
+                .limit(pageSize)
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+        return CursorPage.ofOffset(items, hasMore, offset);
+    }
+
+    private SearchHitDto convertToDto(TicketSearchHit hit) {
+        SearchHitDto dto = new SearchHitDto();
+        dto.setTicketId(hit.getId());
+        dto.setTitle(hit.getTitle());
+        dto.setHeadline(hit.getHeadline());
+        dto.setProjectId(hit.getProjectId());
+        dto.setProjectName(hit.getProjectName());
+        dto.setPriority(CodedEnum.fromCode(TicketPriority.class, hit.getPriority()));
+        dto.setStatus(CodedEnum.fromCode(TicketStatus.class, hit.getStatus()));
+        dto.setType(CodedEnum.fromCode(TicketType.class, hit.getType()));
+        dto.setUpdatedAt(hit.getUpdatedAt());
+        dto.setRank(hit.getRank() != null ? hit.getRank() : 0);
+        return dto;
+    }
+}
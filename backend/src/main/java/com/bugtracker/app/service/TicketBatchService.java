@@ -0,0 +1,310 @@
+package com.bugtracker.app.service;
+
+import com.bugtracker.app.dto.ProjectEvent;
+import com.bugtracker.app.dto.TicketBatchOperation;
+import com.bugtracker.app.dto.TicketBatchResponse;
+import com.bugtracker.app.dto.TicketBatchResult;
+import com.bugtracker.app.dto.TicketDto;
+import com.bugtracker.app.entity.AuthorityLevel;
+import com.bugtracker.app.entity.Project;
+import com.bugtracker.app.entity.Ticket;
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
+import com.bugtracker.app.entity.User;
+import com.bugtracker.app.exception.BadRequestException;
+import com.bugtracker.app.exception.ResourceNotFoundException;
+import com.bugtracker.app.repository.ProjectRepository;
+import com.bugtracker.app.repository.TicketRepository;
+import com.bugtracker.app.repository.UserRepository;
+import com.bugtracker.app.repository.projection.IdPair;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Applies a list of ticket operations in one transaction. Everything the batch refers to is loaded
+ * up front with one query per entity type, operations that fail validation are reported per item
+ * and skipped, and the rest are written together: ticket inserts and updates as JDBC batches on
+ * flush, assignment changes as two JDBC batches. Stream subscribers of each affected project get a
+ * single RESYNC event rather than one delta per operation.
+ */
+@Service
+public class TicketBatchService {
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TicketCounterService ticketCounterService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @Transactional
+    public TicketBatchResponse execute(List<TicketBatchOperation> operations, String userEmail) {
+        User actor = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        // Locked, as in TicketService, because the status counts are adjusted from their current status
+        Map<Long, Ticket> tickets = loadById(ticketRepository::findAllByIdForUpdate, Ticket::getId,
+                operations.stream().map(TicketBatchOperation::getTicketId));
+        Map<Long, Project> projects = loadById(projectRepository::findAllById, Project::getId,
+                operations.stream().map(TicketBatchOperation::getTicket)
+                        .filter(Objects::nonNull)
+                        .map(TicketDto::getProjectId));
+        Map<Long, User> users = loadById(userRepository::findAllById, User::getId, Stream.concat(
+                operations.stream().map(TicketBatchOperation::getUserId),
+                operations.stream().map(TicketBatchOperation::getTicket)
+                        .filter(o -> o != null && o.getAssignedDeveloperIds() != null)
+                        .flatMap(o -> o.getAssignedDeveloperIds().stream())));
+
+        // Operations edit a working copy of the current assignments; only the difference is written
+        Map<Long, Set<Long>> originalAssignments = new HashMap<>();
+        for (Long ticketId : tickets.keySet()) {
+            originalAssignments.put(ticketId, new HashSet<>());
+        }
+        if (!tickets.isEmpty()) {
+            for (IdPair pair : ticketRepository.findAssignedDeveloperIds(tickets.keySet())) {
+                originalAssignments.get(pair.getOwnerId()).add(pair.getMemberId());
+            }
+        }
+        Map<Long, Set<Long>> assignments = new HashMap<>();
+        originalAssignments.forEach((ticketId, devIds) -> assignments.put(ticketId, new HashSet<>(devIds)));
+        // Likewise for statuses: the project counters get the net change once everything is applied
+        Map<Long, TicketStatus> originalStatuses = new HashMap<>();
+        tickets.forEach((ticketId, ticket) -> originalStatuses.put(ticketId, ticket.getStatus()));
+
+        boolean admin = actor.getAuthorityLevel() == AuthorityLevel.ADMIN;
+        TicketBatchResponse response = new TicketBatchResponse();
+        // Sorted, so concurrent batches bump project versions (row locks) in the same order
+        Set<Long> changedProjectIds = new TreeSet<>();
+        for (int i = 0; i < operations.size(); i++) {
+            TicketBatchOperation operation = operations.get(i);
+            try {
+                Long ticketId = apply(operation, actor, admin, tickets, projects, users, assignments);
+                changedProjectIds.add(tickets.get(ticketId).getProject().getId());
+                response.getResults().add(new TicketBatchResult(i, operation.getOp(), true, ticketId, null));
+                response.setSucceeded(response.getSucceeded() + 1);
+            } catch (BadRequestException | ResourceNotFoundException | SecurityException e) {
+                response.getResults().add(new TicketBatchResult(i, operation.getOp(), false,
+                        operation.getTicketId(), e.getMessage()));
+                response.setFailed(response.getFailed() + 1);
+            }
+        }
+
+        // New tickets have to be inserted before rows in dev_assignments can reference them
+        ticketRepository.flush();
+        writeAssignmentChanges(originalAssignments, assignments);
+        changedProjectIds.forEach(projectId -> eventPublisher.publishEvent(ProjectEvent.resync(projectId)));
+        writeStatusCountChanges(originalStatuses, tickets);
+        return response;
+    }
+
+    private Long apply(TicketBatchOperation operation, User actor, boolean admin, Map<Long, Ticket> tickets,
+                       Map<Long, Project> projects, Map<Long, User> users, Map<Long, Set<Long>> assignments) {
+        switch (operation.getOp()) {
+            case CREATE: {
+                TicketDto dto = requireValidTicket(operation);
+                Project project = require(projects, dto.getProjectId(), "Project");
+                Set<Long> devIds = dto.getAssignedDeveloperIds() != null ? dto.getAssignedDeveloperIds() : Set.of();
+                for (Long devId : devIds) {
+                    require(users, devId, "User");
+                }
+
+                Ticket ticket = new Ticket();
+                ticket.setTitle(dto.getTitle());
+                ticket.setDescription(dto.getDescription());
+                ticket.setProject(project);
+                ticket.setCreatedBy(actor);
+                ticket.setPriority(dto.getPriority() != null ? dto.getPriority() : TicketPriority.MEDIUM);
+                // Tickets always start as OPEN when created
+                ticket.setStatus(TicketStatus.OPEN);
+                ticket.setType(dto.getType() != null ? dto.getType() : TicketType.BUG);
+                ticket.setTimeEstimate(dto.getTimeEstimate());
+                // The id comes from the sequence here; the insert itself is batched at flush
+                ticket = ticketRepository.save(ticket);
+
+                tickets.put(ticket.getId(), ticket);
+                assignments.put(ticket.getId(), new HashSet<>());
+                for (Long devId : devIds) {
+                    assign(ticket, devId, assignments);
+                }
+                return ticket.getId();
+            }
+            case UPDATE: {
+                Ticket ticket = require(tickets, operation.getTicketId(), "Ticket");
+                TicketDto dto = requireValidTicket(operation);
+                // Only admins can set status to CLOSED
+                if (dto.getStatus() == TicketStatus.CLOSED && !admin) {
+                    throw new SecurityException("Only admins can close tickets");
+                }
+                ticket.setTitle(dto.getTitle());
+                ticket.setDescription(dto.getDescription());
+                if (dto.getPriority() != null) {
+                    ticket.setPriority(dto.getPriority());
+                }
+                if (dto.getType() != null) {
+                    ticket.setType(dto.getType());
+                }
+                ticket.setTimeEstimate(dto.getTimeEstimate());
+                if (dto.getStatus() != null) {
+                    ticket.setStatus(dto.getStatus());
+                }
+                return ticket.getId();
+            }
+            case ASSIGN: {
+                Ticket ticket = require(tickets, operation.getTicketId(), "Ticket");
+                require(users, operation.getUserId(), "User");
+                assign(ticket, operation.getUserId(), assignments);
+                return ticket.getId();
+            }
+            case UNASSIGN: {
+                Ticket ticket = require(tickets, operation.getTicketId(), "Ticket");
+                require(users, operation.getUserId(), "User");
+                Set<Long> devIds = assignments.get(ticket.getId());
+                devIds.remove(operation.getUserId());
+                // If no developers left and status is IN_PROGRESS, set back to OPEN
+                if (devIds.isEmpty() && ticket.getStatus() == TicketStatus.IN_PROGRESS) {
+                    ticket.setStatus(TicketStatus.OPEN);
+                }
+                return ticket.getId();
+            }
+            case STATUS: {
+                Ticket ticket = require(tickets, operation.getTicketId(), "Ticket");
+                if (operation.getStatus() == null) {
+                    throw new BadRequestException("Status is required");
+                }
+                if (operation.getStatus() == TicketStatus.CLOSED && !admin) {
+                    throw new SecurityException("Only admins can close tickets");
+                }
+                ticket.setStatus(operation.getStatus());
+                return ticket.getId();
+            }
+            default:
+                throw new BadRequestException("Unsupported operation: " + operation.getOp());
+        }
+    }
+
+    private void assign(Ticket ticket, Long userId, Map<Long, Set<Long>> assignments) {
+        assignments.get(ticket.getId()).add(userId);
+        // If ticket is OPEN, change to IN_PROGRESS when first developer is assigned
+        if (ticket.getStatus() == TicketStatus.OPEN) {
+            ticket.setStatus(TicketStatus.IN_PROGRESS);
+        }
+    }
+
+    private void writeAssignmentChanges(Map<Long, Set<Long>> original, Map<Long, Set<Long>> current) {
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        Set<Long> changedTicketIds = new HashSet<>();
+        current.forEach((ticketId, devIds) -> {
+            Set<Long> before = original.getOrDefault(ticketId, Set.of());
+            for (Long devId : devIds) {
+                if (!before.contains(devId)) {
+                    inserts.add(new Object[]{devId, ticketId});
+                    changedTicketIds.add(ticketId);
+                }
+            }
+            for (Long devId : before) {
+                if (!devIds.contains(devId)) {
+                    deletes.add(new Object[]{devId, ticketId});
+                    changedTicketIds.add(ticketId);
+                }
+            }
+        });
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO dev_assignments (user_id, ticket_id) VALUES (?, ?)", inserts);
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM dev_assignments WHERE user_id = ? AND ticket_id = ?", deletes);
+        }
+        // Written behind Hibernate's back, so the cached assignee lists have to go
+        entityCacheEvictor.evictAssignedDevelopersAfterCommit(changedTicketIds);
+    }
+
+    private void writeStatusCountChanges(Map<Long, TicketStatus> originalStatuses, Map<Long, Ticket> tickets) {
+        // Sorted by project, like the version bumps
+        Map<Long, Map<TicketStatus, Integer>> deltas = new TreeMap<>();
+        tickets.forEach((ticketId, ticket) -> {
+            TicketStatus before = originalStatuses.get(ticketId);
+            if (before != ticket.getStatus()) {
+                Map<TicketStatus, Integer> projectDeltas = deltas.computeIfAbsent(ticket.getProject().getId(),
+                        projectId -> new EnumMap<>(TicketStatus.class));
+                if (before != null) {
+                    projectDeltas.merge(before, -1, Integer::sum);
+                }
+                projectDeltas.merge(ticket.getStatus(), 1, Integer::sum);
+            }
+        });
+        deltas.forEach(ticketCounterService::adjustTicketCounts);
+    }
+
+    private TicketDto requireValidTicket(TicketBatchOperation operation) {
+        TicketDto dto = operation.getTicket();
+        if (dto == null) {
+            throw new BadRequestException("Ticket is required for " + operation.getOp());
+        }
+        Set<ConstraintViolation<TicketDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new BadRequestException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return dto;
+    }
+
+    private static <T> T require(Map<Long, T> byId, Long id, String name) {
+        if (id == null) {
+            throw new BadRequestException(name + " id is required");
+        }
+        T value = byId.get(id);
+        if (value == null) {
+            throw new ResourceNotFoundException(name + " not found with id: " + id);
+        }
+        return value;
+    }
+
+    private static <T> Map<Long, T> loadById(Function<Set<Long>, List<T>> finder, Function<T, Long> idOf,
+                                             Stream<Long> ids) {
+        Set<Long> distinctIds = ids.filter(Objects::nonNull).collect(Collectors.toSet());
+        if (distinctIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return finder.apply(distinctIds).stream().collect(Collectors.toMap(idOf, Function.identity()));
+    }
+}
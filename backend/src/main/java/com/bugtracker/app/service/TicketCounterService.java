@@ -0,0 +1,211 @@
+package com.bugtracker.app.service;
+
+import com.bugtracker.app.entity.TicketStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.LongFunction;
+
+/**
+ * Denormalized counts: {@code tickets.comment_count} and the per-status ticket counts on
+ * {@code projects}. Every change to comments or to a ticket's status adjusts them with a relative
+ * update in the same transaction, so concurrent changes never overwrite each other and listings
+ * read the counts as plain columns.
+ * <p>
+ * A status change moves the ticket out of the count of the status it was loaded with, so callers
+ * load the ticket with a row lock ({@code TicketRepository.findByIdForUpdate}); otherwise two
+ * concurrent changes would both decrement the same count. Write paths lock ticket rows before the
+ * project row (which the {@code ProjectEvent} locks to bump its content version), so comment counts
+ * are adjusted before the event is published. Anything that still changes the rows behind the
+ * counters' back (a manual fix in the database, a bug) is repaired by {@link #reconcile()}.
+ */
+@Service
+public class TicketCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketCounterService.class);
+
+    private static final String ACTUAL_COMMENT_COUNT = "(SELECT COUNT(*) FROM comments c WHERE c.ticket_id = t.id)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ContentVersionService contentVersionService;
+
+    @Value("${counters.reconcile-batch-size}")
+    private int reconcileBatchSize;
+
+    public void adjustCommentCount(Long ticketId, int delta) {
+        jdbcTemplate.update("UPDATE tickets SET comment_count = comment_count + ? WHERE id = ?", delta, ticketId);
+    }
+
+    /**
+     * Moves a ticket between status counts; {@code from} is null for a new ticket and {@code to}
+     * for a deleted one.
+     */
+    public void statusChanged(Long projectId, TicketStatus from, TicketStatus to) {
+        if (from == to) {
+            return;
+        }
+        Map<TicketStatus, Integer> deltas = new EnumMap<>(TicketStatus.class);
+        if (from != null) {
+            deltas.put(from, -1);
+        }
+        if (to != null) {
+            deltas.put(to, 1);
+        }
+        adjustTicketCounts(projectId, deltas);
+    }
+
+    /**
+     * Applies the net change of several tickets of one project with a single update.
+     */
+    public void adjustTicketCounts(Long projectId, Map<TicketStatus, Integer> deltas) {
+        StringBuilder sql = new StringBuilder("UPDATE projects SET ");
+        List<Object> args = new ArrayList<>();
+        deltas.forEach((status, delta) -> {
+            if (delta != 0) {
+                String column = countColumn(status);
+                sql.append(args.isEmpty() ? "" : ", ").append(column).append(" = ").append(column).append(" + ?");
+                args.add(delta);
+            }
+        });
+        if (args.isEmpty()) {
+            return;
+        }
+        sql.append(" WHERE id = ?");
+        args.add(projectId);
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * For a user about to be deleted: JPA cascades the delete into the user's tickets and comments,
+     * which the counts must stop including.
+     */
+    public void userDeleting(Long userId) {
+        // Ticket rows first, as everywhere else: these are the ones the cascade deletes or updates
+        jdbcTemplate.queryForList("SELECT id FROM tickets WHERE created_by = ? "
+                + "OR id IN (SELECT c.ticket_id FROM comments c WHERE c.user_id = ?) ORDER BY id FOR UPDATE",
+                Long.class, userId, userId);
+        jdbcTemplate.update("UPDATE projects p SET "
+                + "open_ticket_count = open_ticket_count - " + createdTicketCount(TicketStatus.OPEN) + ", "
+                + "in_progress_ticket_count = in_progress_ticket_count - "
+                + createdTicketCount(TicketStatus.IN_PROGRESS) + ", "
+                + "closed_ticket_count = closed_ticket_count - " + createdTicketCount(TicketStatus.CLOSED) + " "
+                + "WHERE p.id IN (SELECT t.project_id FROM tickets t WHERE t.created_by = ?)",
+                userId, userId, userId, userId);
+        jdbcTemplate.update("UPDATE tickets t SET comment_count = comment_count - "
+                + "(SELECT COUNT(*) FROM comments c WHERE c.ticket_id = t.id AND c.user_id = ?) "
+                + "WHERE t.id IN (SELECT c.ticket_id FROM comments c WHERE c.user_id = ?)", userId, userId);
+    }
+
+    /**
+     * Recounts every counter and corrects the ones that drifted, a batch of rows per transaction.
+     * Rows are locked before they are counted, so a change committed while the job runs is either
+     * fully counted or waits for it; rows locked by a running change are skipped until the next run.
+     * Runs every {@code counters.reconcile-interval}.
+     */
+    public void reconcile() {
+        int commentCounts = inBatches(this::reconcileCommentCounts);
+        int ticketCounts = inBatches(this::reconcileTicketCounts);
+        if (commentCounts > 0 || ticketCounts > 0) {
+            log.warn("Repaired drifted counters: comment counts in {} project(s), ticket counts of {} project(s)",
+                    commentCounts, ticketCounts);
+        }
+    }
+
+    private int inBatches(LongFunction<Batch> step) {
+        int repaired = 0;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            Batch batch = transactionTemplate.execute(status -> step.apply(from));
+            if (batch.lastId() == null) {
+                return repaired;
+            }
+            repaired += batch.repairedProjectIds().size();
+            // Bumped after the commit: inside, it would lock project rows while holding ticket rows
+            batch.repairedProjectIds().forEach(contentVersionService::bump);
+            afterId = batch.lastId();
+        }
+    }
+
+    private record Batch(Long lastId, Set<Long> repairedProjectIds) {
+    }
+
+    private Batch reconcileCommentCounts(long afterId) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM tickets WHERE id > ? ORDER BY id LIMIT ? "
+                + "FOR NO KEY UPDATE SKIP LOCKED", Long.class, afterId, reconcileBatchSize);
+        if (ids.isEmpty()) {
+            return new Batch(null, Set.of());
+        }
+        Object idArray = ids.toArray(Long[]::new);
+        // A separate statement from the lock, so that it counts with a snapshot taken after the lock
+        Set<Long> projectIds = new TreeSet<>(jdbcTemplate.queryForList("SELECT DISTINCT t.project_id FROM tickets t "
+                + "WHERE t.id = ANY(?) AND t.comment_count <> " + ACTUAL_COMMENT_COUNT, Long.class, idArray));
+        if (!projectIds.isEmpty()) {
+            jdbcTemplate.update("UPDATE tickets t SET comment_count = " + ACTUAL_COMMENT_COUNT
+                    + " WHERE t.id = ANY(?) AND t.comment_count <> " + ACTUAL_COMMENT_COUNT, idArray);
+        }
+        return new Batch(ids.get(ids.size() - 1), projectIds);
+    }
+
+    private Batch reconcileTicketCounts(long afterId) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM projects WHERE id > ? ORDER BY id LIMIT ? "
+                + "FOR NO KEY UPDATE SKIP LOCKED", Long.class, afterId, reconcileBatchSize);
+        if (ids.isEmpty()) {
+            return new Batch(null, Set.of());
+        }
+        Object idArray = ids.toArray(Long[]::new);
+        String drifted = "p.id = ANY(?) AND (" + String.join(" OR ",
+                "p.open_ticket_count <> " + projectTicketCount(TicketStatus.OPEN),
+                "p.in_progress_ticket_count <> " + projectTicketCount(TicketStatus.IN_PROGRESS),
+                "p.closed_ticket_count <> " + projectTicketCount(TicketStatus.CLOSED)) + ")";
+        List<Long> driftedIds = jdbcTemplate.queryForList("SELECT p.id FROM projects p WHERE " + drifted,
+                Long.class, idArray);
+        for (Long projectId : driftedIds) {
+            jdbcTemplate.update("UPDATE projects p SET "
+                    + "open_ticket_count = " + projectTicketCount(TicketStatus.OPEN) + ", "
+                    + "in_progress_ticket_count = " + projectTicketCount(TicketStatus.IN_PROGRESS) + ", "
+                    + "closed_ticket_count = " + projectTicketCount(TicketStatus.CLOSED) + " "
+                    + "WHERE p.id = ?", projectId);
+        }
+        return new Batch(ids.get(ids.size() - 1), new TreeSet<>(driftedIds));
+    }
+
+    private static String projectTicketCount(TicketStatus status) {
+        return "(SELECT COUNT(*) FROM tickets t WHERE t.project_id = p.id AND t.status = " + status.getCode() + ")";
+    }
+
+    private static String createdTicketCount(TicketStatus status) {
+        return "(SELECT COUNT(*) FROM tickets t WHERE t.project_id = p.id AND t.created_by = ? "
+                + "AND t.status = " + status.getCode() + ")";
+    }
+
+    private static String countColumn(TicketStatus status) {
+        switch (status) {
+            case OPEN:
+                return "open_ticket_count";
+            case IN_PROGRESS:
+                return "in_progress_ticket_count";
+            case CLOSED:
+                return "closed_ticket_count";
+            default:
+                throw new IllegalArgumentException("No ticket count for status " + status);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.bugtracker.app.service;
+
+import com.bugtracker.app.dto.TicketImportCsvRow;
+import com.bugtracker.app.dto.TicketImportRecord;
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
+import com.bugtracker.app.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Reads an import file one ticket at a time, so that only the current chunk is ever held in memory.
+ * Records are numbered by line (NDJSON) or by data row after the header (CSV, numbered by the ticket
+ * row); these are the numbers used in error reports and for {@code resumeFrom}. A record that can't
+ * be read is returned with an error and the rest of the file is still read; an {@link IOException}
+ * means the file itself is broken and reading can't continue.
+ */
+abstract class TicketImportReader implements Closeable {
+
+    enum Format {
+        CSV, NDJSON;
+
+        static Format parse(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new BadRequestException("Unsupported import format: " + value + " (use csv or ndjson)");
+        }
+    }
+
+    /**
+     * One ticket read from the file: either {@code record} or {@code error} is set.
+     */
+    record Entry(int number, TicketImportRecord record, String error) {
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.IGNORE_TRAILING_UNMAPPABLE)
+            .build();
+
+    private static final ObjectReader CSV_READER = CSV_MAPPER
+            .readerFor(TicketImportCsvRow.class)
+            .with(CsvSchema.emptySchema().withHeader().withColumnReordering(true));
+
+    static TicketImportReader open(Format format, InputStream input, ObjectMapper objectMapper) throws IOException {
+        return format == Format.CSV ? new Csv(input) : new Ndjson(input, objectMapper);
+    }
+
+    /**
+     * Returns the next ticket, or {@code null} at the end of the file.
+     */
+    abstract Entry next() throws IOException;
+
+    private static final class Ndjson extends TicketImportReader {
+
+        private final BufferedReader lines;
+        private final ObjectReader recordReader;
+        private int lineNumber;
+
+        Ndjson(InputStream input, ObjectMapper objectMapper) {
+            this.lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE);
+            this.recordReader = objectMapper.readerFor(TicketImportRecord.class);
+        }
+
+        @Override
+        Entry next() throws IOException {
+            String line;
+            do {
+                line = lines.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+            } while (line.isBlank());
+
+            try {
+                return new Entry(lineNumber, recordReader.readValue(line), null);
+            } catch (JsonProcessingException e) {
+                return new Entry(lineNumber, null, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            lines.close();
+        }
+    }
+
+    private static final class Csv extends TicketImportReader {
+
+        private final MappingIterator<TicketImportCsvRow> rows;
+        private int rowNumber;
+        // The row after the last ticket's comments, already read
+        private TicketImportCsvRow pending;
+
+        Csv(InputStream input) throws IOException {
+            this.rows = CSV_READER.readValues(new InputStreamReader(input, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        Entry next() throws IOException {
+            TicketImportCsvRow row = pending != null ? pending : nextRow();
+            pending = null;
+            if (row == null) {
+                return null;
+            }
+            int number = rowNumber;
+            if (isComment(row)) {
+                return new Entry(number, null, "Comment row without a preceding ticket row");
+            }
+
+            TicketImportRecord record = null;
+            String error = null;
+            try {
+                record = toTicket(row);
+            } catch (IllegalArgumentException e) {
+                error = e.getMessage();
+            }
+            // The ticket's comment rows are consumed even if the ticket can't be imported
+            while ((row = nextRow()) != null && isComment(row)) {
+                if (error == null) {
+                    try {
+                        record.getComments().add(toComment(row));
+                    } catch (IllegalArgumentException e) {
+                        error = "Comment on row " + rowNumber + ": " + e.getMessage();
+                    }
+                }
+            }
+            pending = row;
+            return error == null ? new Entry(number, record, null) : new Entry(number, null, error);
+        }
+
+        private TicketImportCsvRow nextRow() throws IOException {
+            if (!rows.hasNextValue()) {
+                return null;
+            }
+            rowNumber++;
+            return rows.nextValue();
+        }
+
+        @Override
+        public void close() throws IOException {
+            rows.close();
+        }
+
+        private static boolean isComment(TicketImportCsvRow row) {
+            return "comment".equalsIgnoreCase(row.getRecord());
+        }
+
+        private static TicketImportRecord toTicket(TicketImportCsvRow row) {
+            TicketImportRecord record = new TicketImportRecord();
+            record.setExternalRef(blankToNull(row.getExternalRef()));
+            record.setTitle(row.getTitle());
+            record.setDescription(blankToNull(row.getDescription()));
+            record.setStatus(parseEnum(TicketStatus.class, "status", row.getStatus()));
+            record.setPriority(parseEnum(TicketPriority.class, "priority", row.getPriority()));
+            record.setType(parseEnum(TicketType.class, "type", row.getType()));
+            String timeEstimate = blankToNull(row.getTimeEstimate());
+            if (timeEstimate != null) {
+                try {
+                    record.setTimeEstimate(Integer.valueOf(timeEstimate));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid timeEstimate: " + timeEstimate);
+                }
+            }
+            record.setCreatedByEmail(blankToNull(row.getCreatedByEmail()));
+            String assignees = blankToNull(row.getAssigneeEmails());
+            if (assignees != null) {
+                record.setAssigneeEmails(Arrays.stream(assignees.split(";"))
+                        .map(String::trim)
+                        .filter(email -> !email.isEmpty())
+                        .toList());
+            }
+            record.setCreatedAt(parseTimestamp(row.getCreatedAt()));
+            record.setUpdatedAt(parseTimestamp(row.getUpdatedAt()));
+            return record;
+        }
+
+        private static TicketImportRecord.Comment toComment(TicketImportCsvRow row) {
+            TicketImportRecord.Comment comment = new TicketImportRecord.Comment();
+            comment.setContent(row.getContent());
+            comment.setAuthorEmail(blankToNull(row.getAuthorEmail()));
+            comment.setCreatedAt(parseTimestamp(row.getCreatedAt()));
+            comment.setUpdatedAt(parseTimestamp(row.getUpdatedAt()));
+            return comment;
+        }
+
+        private static <E extends Enum<E>> E parseEnum(Class<E> type, String column, String value) {
+            value = blankToNull(value);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid " + column + ": " + value);
+            }
+        }
+
+        private static LocalDateTime parseTimestamp(String value) {
+            value = blankToNull(value);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return LocalDateTime.parse(value);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid timestamp: " + value);
+            }
+        }
+
+        private static String blankToNull(String value) {
+            return value == null || value.isBlank() ? null : value;
+        }
+    }
+}
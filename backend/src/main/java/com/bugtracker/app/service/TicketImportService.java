@@ -0,0 +1,473 @@
+package com.bugtracker.app.service;
+
+import com.bugtracker.app.dto.ProjectEvent;
+import com.bugtracker.app.dto.TicketImportError;
+import com.bugtracker.app.dto.TicketImportRecord;
+import com.bugtracker.app.dto.TicketImportResponse;
+import com.bugtracker.app.entity.AuthorityLevel;
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
+import com.bugtracker.app.entity.User;
+import com.bugtracker.app.entity.id.PooledSequenceAllocator;
+import com.bugtracker.app.exception.BadRequestException;
+import com.bugtracker.app.exception.ResourceNotFoundException;
+import com.bugtracker.app.repository.ProjectRepository;
+import com.bugtracker.app.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of tickets, assignees and comments into a project from a CSV or NDJSON upload, for
+ * {@code /api/projects/{id}/import}.
+ * <p>
+ * The file is read one ticket at a time and written in chunks of {@code import.chunk-size} tickets,
+ * each in its own transaction: user emails of the chunk are resolved with one query (and remembered
+ * for the rest of the run), ids come from the entity sequences in blocks (see
+ * {@link PooledSequenceAllocator}), and tickets, assignments and comments are inserted as three JDBC
+ * batches. Records that fail validation are reported and skipped. If a chunk can't be written, or the
+ * file can't be read further, the import stops; earlier chunks stay committed and the response says
+ * which record to resume from. Tickets whose {@code externalRef} is already in the project are
+ * skipped, so re-sending a file is safe when every record has one.
+ */
+@Service
+@Timed("bugtracker.service")
+public class TicketImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketImportService.class);
+
+    private static final String INSERT_TICKET = "INSERT INTO tickets (id, title, description, project_id, "
+            + "created_by, priority, status, type, time_estimate, created_at, updated_at, external_ref, "
+            + "comment_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ASSIGNMENT = "INSERT INTO dev_assignments (user_id, ticket_id) VALUES (?, ?)";
+
+    private static final String INSERT_COMMENT = "INSERT INTO comments (id, content, ticket_id, user_id, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PooledSequenceAllocator idAllocator;
+
+    @Autowired
+    private ContentVersionService contentVersionService;
+
+    @Autowired
+    private TicketCounterService ticketCounterService;
+
+    @Autowired
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${import.chunk-size}")
+    private int chunkSize;
+
+    @Value("${import.max-reported-errors}")
+    private int maxReportedErrors;
+
+    /**
+     * State of one import: who runs it, the emails resolved so far and the running totals.
+     */
+    private static class ImportRun {
+        private final Long projectId;
+        private final Long actorId;
+        private final String actorEmail;
+        private final boolean admin;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        // Email -> user id; unknown emails map to null so they are looked up only once
+        private final Map<String, Long> userIds = new HashMap<>();
+        private final TicketImportResponse response = new TicketImportResponse();
+
+        ImportRun(Long projectId, User actor) {
+            this.projectId = projectId;
+            this.actorId = actor.getId();
+            this.actorEmail = actor.getEmail();
+            this.admin = actor.getAuthorityLevel() == AuthorityLevel.ADMIN;
+        }
+    }
+
+    /**
+     * A ticket that passed validation, with its user references resolved to ids.
+     */
+    private record TicketRow(TicketImportRecord record, Long createdById, TicketStatus status,
+                             Set<Long> assigneeIds, List<Long> commentAuthorIds) {
+    }
+
+    private record CommentRow(long ticketId, TicketImportRecord.Comment comment, Long authorId) {
+    }
+
+    /**
+     * What a committed chunk added; applied to the response only once the chunk is committed.
+     */
+    private static class ChunkResult {
+        private int imported;
+        private int comments;
+        private int skipped;
+        private final List<TicketImportError> errors = new ArrayList<>();
+    }
+
+    /**
+     * Imports the records of {@code input} numbered {@code resumeFrom} and later. The stream is
+     * read to the end unless the import stops early; the caller closes it.
+     */
+    public TicketImportResponse importTickets(Long projectId, String format, InputStream input, int resumeFrom,
+                                              String userEmail) {
+        TicketImportReader.Format fileFormat = TicketImportReader.Format.parse(format);
+        if (resumeFrom < 1) {
+            throw new BadRequestException("resumeFrom must be at least 1");
+        }
+        User actor = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
+
+        ImportRun run = new ImportRun(projectId, actor);
+        List<TicketImportReader.Entry> chunk = new ArrayList<>(chunkSize);
+        int lastRead = resumeFrom - 1;
+        try (TicketImportReader reader = TicketImportReader.open(fileFormat, input, objectMapper)) {
+            TicketImportReader.Entry entry;
+            while ((entry = reader.next()) != null) {
+                if (entry.number() < resumeFrom) {
+                    continue;
+                }
+                lastRead = entry.number();
+                chunk.add(entry);
+                if (chunk.size() == chunkSize) {
+                    if (!importChunk(run, chunk)) {
+                        return finish(run);
+                    }
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            // Everything read before the broken part is still imported
+            if (importChunk(run, chunk)) {
+                stop(run, lastRead + 1, "Could not read the file from record " + (lastRead + 1) + ": " + e.getMessage());
+            }
+            return finish(run);
+        }
+        if (importChunk(run, chunk)) {
+            run.response.setComplete(true);
+        }
+        return finish(run);
+    }
+
+    private TicketImportResponse finish(ImportRun run) {
+        if (run.response.getImported() > 0) {
+            // Stream subscribers reload the project once rather than receiving every imported ticket
+            eventPublisher.publishEvent(ProjectEvent.resync(run.projectId));
+        }
+        return run.response;
+    }
+
+    /**
+     * Writes one chunk in its own transaction. Returns false, with the import stopped at the
+     * chunk's first record, if it could not be committed.
+     */
+    private boolean importChunk(ImportRun run, List<TicketImportReader.Entry> chunk) {
+        if (chunk.isEmpty()) {
+            return true;
+        }
+        ChunkResult result;
+        try {
+            result = transactionTemplate.execute(status -> writeChunk(run, chunk));
+        } catch (DataAccessException | TransactionException e) {
+            int first = chunk.get(0).number();
+            log.warn("Import into project {} stopped at record {}", run.projectId, first, e);
+            stop(run, first, "Records " + first + " to " + chunk.get(chunk.size() - 1).number()
+                    + " could not be imported: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            return false;
+        }
+
+        TicketImportResponse response = run.response;
+        response.setProcessed(response.getProcessed() + chunk.size());
+        response.setImported(response.getImported() + result.imported);
+        response.setImportedComments(response.getImportedComments() + result.comments);
+        response.setSkipped(response.getSkipped() + result.skipped);
+        result.errors.forEach(error -> addError(response, error));
+        return true;
+    }
+
+    private ChunkResult writeChunk(ImportRun run, List<TicketImportReader.Entry> chunk) {
+        resolveEmails(run, chunk);
+        Set<String> existingRefs = findExistingRefs(run.projectId, chunk);
+
+        ChunkResult result = new ChunkResult();
+        List<TicketRow> rows = new ArrayList<>(chunk.size());
+        Set<String> refsInChunk = new HashSet<>();
+        for (TicketImportReader.Entry entry : chunk) {
+            TicketImportRecord record = entry.record();
+            if (entry.error() != null) {
+                result.errors.add(new TicketImportError(entry.number(), null, entry.error()));
+                continue;
+            }
+            String ref = record.getExternalRef();
+            if (ref != null && (existingRefs.contains(ref) || !refsInChunk.add(ref))) {
+                result.skipped++;
+                continue;
+            }
+            try {
+                rows.add(toTicketRow(run, record));
+            } catch (BadRequestException | ResourceNotFoundException | SecurityException e) {
+                result.errors.add(new TicketImportError(entry.number(), ref, e.getMessage()));
+            }
+        }
+        if (rows.isEmpty()) {
+            return result;
+        }
+
+        long[] ticketIds = idAllocator.allocate("tickets_seq", rows.size());
+        List<Object[]> assignments = new ArrayList<>();
+        List<CommentRow> comments = new ArrayList<>();
+        Map<TicketStatus, Integer> statusCounts = new EnumMap<>(TicketStatus.class);
+        for (int i = 0; i < rows.size(); i++) {
+            TicketRow row = rows.get(i);
+            statusCounts.merge(row.status(), 1, Integer::sum);
+            for (Long assigneeId : row.assigneeIds()) {
+                assignments.add(new Object[]{assigneeId, ticketIds[i]});
+            }
+            List<TicketImportRecord.Comment> ticketComments = row.record().getComments();
+            for (int c = 0; c < ticketComments.size(); c++) {
+                comments.add(new CommentRow(ticketIds[i], ticketComments.get(c), row.commentAuthorIds().get(c)));
+            }
+        }
+        long[] commentIds = idAllocator.allocate("comments_seq", comments.size());
+
+        jdbcTemplate.batchUpdate(INSERT_TICKET, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                TicketRow row = rows.get(i);
+                TicketImportRecord record = row.record();
+                LocalDateTime createdAt = record.getCreatedAt() != null ? record.getCreatedAt() : run.startedAt;
+                ps.setLong(1, ticketIds[i]);
+                ps.setString(2, record.getTitle());
+                ps.setString(3, record.getDescription());
+                ps.setLong(4, run.projectId);
+                ps.setLong(5, row.createdById());
+                ps.setShort(6, (record.getPriority() != null ? record.getPriority() : TicketPriority.MEDIUM).getCode());
+                ps.setShort(7, row.status().getCode());
+                ps.setShort(8, (record.getType() != null ? record.getType() : TicketType.BUG).getCode());
+                if (record.getTimeEstimate() != null) {
+                    ps.setInt(9, record.getTimeEstimate());
+                } else {
+                    ps.setNull(9, Types.INTEGER);
+                }
+                ps.setTimestamp(10, Timestamp.valueOf(createdAt));
+                ps.setTimestamp(11, Timestamp.valueOf(record.getUpdatedAt() != null ? record.getUpdatedAt() : createdAt));
+                ps.setString(12, record.getExternalRef());
+                ps.setInt(13, record.getComments().size());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+        if (!assignments.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ASSIGNMENT, assignments);
+            // The tickets are new, but the rule for JDBC writes to dev_assignments is the same everywhere
+            entityCacheEvictor.evictAssignedDevelopersAfterCommit(
+                    assignments.stream().map(assignment -> (Long) assignment[1]).collect(Collectors.toSet()));
+        }
+        if (!comments.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_COMMENT, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    CommentRow row = comments.get(i);
+                    TicketImportRecord.Comment comment = row.comment();
+                    LocalDateTime createdAt = comment.getCreatedAt() != null ? comment.getCreatedAt() : run.startedAt;
+                    ps.setLong(1, commentIds[i]);
+                    ps.setString(2, comment.getContent());
+                    ps.setLong(3, row.ticketId());
+                    ps.setLong(4, row.authorId());
+                    ps.setTimestamp(5, Timestamp.valueOf(createdAt));
+                    ps.setTimestamp(6, Timestamp.valueOf(
+                            comment.getUpdatedAt() != null ? comment.getUpdatedAt() : createdAt));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return comments.size();
+                }
+            });
+        }
+        ticketCounterService.adjustTicketCounts(run.projectId, statusCounts);
+        contentVersionService.bump(run.projectId);
+
+        result.imported = rows.size();
+        result.comments = comments.size();
+        return result;
+    }
+
+    private TicketRow toTicketRow(ImportRun run, TicketImportRecord record) {
+        Set<ConstraintViolation<TicketImportRecord>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            throw new BadRequestException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        // Only admins can set status to CLOSED
+        if (record.getStatus() == TicketStatus.CLOSED && !run.admin) {
+            throw new SecurityException("Only admins can close tickets");
+        }
+
+        // Creating tickets and comments through the API always attributes them to the caller, and
+        // assigning developers is up to admins; an import must not get around either
+        if (!run.admin) {
+            if (!record.getAssigneeEmails().isEmpty()) {
+                throw new SecurityException("Only admins can import assignees");
+            }
+            boolean othersComments = record.getComments().stream()
+                    .anyMatch(comment -> !isActorOrMissing(run, comment.getAuthorEmail()));
+            if (!isActorOrMissing(run, record.getCreatedByEmail()) || othersComments) {
+                throw new SecurityException("Only admins can import tickets or comments by other users");
+            }
+        }
+
+        Long createdById = resolveUser(run, record.getCreatedByEmail());
+        Set<Long> assigneeIds = new LinkedHashSet<>();
+        for (String email : record.getAssigneeEmails()) {
+            assigneeIds.add(resolveUser(run, email));
+        }
+        List<Long> commentAuthorIds = new ArrayList<>(record.getComments().size());
+        for (TicketImportRecord.Comment comment : record.getComments()) {
+            commentAuthorIds.add(resolveUser(run, comment.getAuthorEmail()));
+        }
+        // Without an explicit status, a ticket starts as OPEN, or IN_PROGRESS once it has assignees
+        TicketStatus status = record.getStatus() != null ? record.getStatus()
+                : assigneeIds.isEmpty() ? TicketStatus.OPEN : TicketStatus.IN_PROGRESS;
+        return new TicketRow(record, createdById, status, assigneeIds, commentAuthorIds);
+    }
+
+    private static boolean isActorOrMissing(ImportRun run, String email) {
+        return email == null || email.equals(run.actorEmail);
+    }
+
+    /**
+     * A missing email stands for the user running the import.
+     */
+    private Long resolveUser(ImportRun run, String email) {
+        if (email == null || email.equals(run.actorEmail)) {
+            return run.actorId;
+        }
+        Long id = run.userIds.get(email);
+        if (id == null) {
+            throw new ResourceNotFoundException("User not found: " + email);
+        }
+        return id;
+    }
+
+    /**
+     * Looks up every email of the chunk not seen earlier in the run, in one query.
+     */
+    private void resolveEmails(ImportRun run, List<TicketImportReader.Entry> chunk) {
+        // Other users' emails are rejected for non-admins before they are looked up, so an import
+        // can't be used to find out which emails have accounts
+        if (!run.admin) {
+            return;
+        }
+        Set<String> emails = new HashSet<>();
+        for (TicketImportReader.Entry entry : chunk) {
+            TicketImportRecord record = entry.record();
+            if (record == null) {
+                continue;
+            }
+            emails.add(record.getCreatedByEmail());
+            emails.addAll(record.getAssigneeEmails());
+            for (TicketImportRecord.Comment comment : record.getComments()) {
+                emails.add(comment.getAuthorEmail());
+            }
+        }
+        emails.remove(null);
+        emails.removeAll(run.userIds.keySet());
+        if (emails.isEmpty()) {
+            return;
+        }
+        emails.forEach(email -> run.userIds.put(email, null));
+        jdbcTemplate.query("SELECT id, email FROM users WHERE email = ANY(?)",
+                rs -> {
+                    run.userIds.put(rs.getString("email"), rs.getLong("id"));
+                },
+                (Object) emails.toArray(String[]::new));
+    }
+
+    private Set<String> findExistingRefs(Long projectId, List<TicketImportReader.Entry> chunk) {
+        String[] refs = chunk.stream()
+                .filter(entry -> entry.record() != null && entry.record().getExternalRef() != null)
+                .map(entry -> entry.record().getExternalRef())
+                .distinct()
+                .toArray(String[]::new);
+        if (refs.length == 0) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT external_ref FROM tickets WHERE project_id = ? AND external_ref = ANY(?)",
+                String.class, projectId, refs));
+    }
+
+    private void stop(ImportRun run, int resumeFrom, String message) {
+        run.response.setResumeFrom(resumeFrom);
+        addError(run.response, new TicketImportError(resumeFrom, null, message));
+    }
+
+    private void addError(TicketImportResponse response, TicketImportError error) {
+        response.setFailed(response.getFailed() + 1);
+        if (response.getErrors().size() < maxReportedErrors) {
+            response.getErrors().add(error);
+        } else {
+            response.setErrorsTruncated(true);
+        }
+    }
+}
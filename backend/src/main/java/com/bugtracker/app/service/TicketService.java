@@ -1,25 +1,57 @@
 package com.bugtracker.app.service;
 
+import com.bugtracker.app.dto.CursorPage;
+import com.bugtracker.app.dto.ProjectEvent;
 import com.bugtracker.app.dto.TicketDto;
+import com.bugtracker.app.dto.TicketFilter;
+import com.bugtracker.app.dto.TicketStatsDto;
+import com.bugtracker.app.entity.AuthorityLevel;
 import com.bugtracker.app.entity.Project;
 import com.bugtracker.app.entity.Ticket;
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
 import com.bugtracker.app.entity.User;
+import com.bugtracker.app.exception.BadRequestException;
 import com.bugtracker.app.exception.ResourceNotFoundException;
-import com.bugtracker.app.repository.CommentRepository;
 import com.bugtracker.app.repository.ProjectRepository;
 import com.bugtracker.app.repository.TicketRepository;
+import com.bugtracker.app.repository.TicketSpecifications;
 import com.bugtracker.app.repository.UserRepository;
+import com.bugtracker.app.repository.projection.IdPair;
+import com.bugtracker.app.repository.projection.TicketStatsRow;
+import com.bugtracker.app.repository.projection.TicketSummary;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed("bugtracker.service")
 public class TicketService {
 
+    // Keeps IN lists well below PostgreSQL's bind parameter limit
+    private static final int BATCH_LOOKUP_SIZE = 1000;
+
+    public static final List<String> QUERY_SORT_KEYS = List.of("id", "createdAt", "updatedAt");
+
     @Autowired
     private TicketRepository ticketRepository;
 
@@ -30,12 +62,22 @@ public class TicketService {
     private UserRepository userRepository;
 
     @Autowired
-    private CommentRepository commentRepository;
+    private TicketCounterService ticketCounterService;
 
-    public List<TicketDto> getAllTickets() {
-        return ticketRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Passes every ticket, in id order, to {@code action} as it is read. Rows come from a database
+     * cursor and are converted {@value #BATCH_LOOKUP_SIZE} at a time, so memory use does not grow
+     * with the number of tickets. The transaction (and its connection) stays open until the last
+     * ticket has been handed over.
+     */
+    @Transactional(readOnly = true)
+    public void streamAllTickets(Consumer<TicketDto> action) {
+        try (Stream<TicketSummary> summaries = ticketRepository.streamAllSummaries()) {
+            forEachInBatches(summaries, action);
+        }
     }
 
     public TicketDto getTicketById(Long id) {
@@ -44,16 +86,100 @@ public class TicketService {
         return convertToDto(ticket);
     }
 
-    public List<TicketDto> getTicketsByProjectId(Long projectId) {
-        return ticketRepository.findByProjectId(projectId).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public void streamTicketsByProjectId(Long projectId, Consumer<TicketDto> action) {
+        try (Stream<TicketSummary> summaries = ticketRepository.streamSummariesByProjectId(projectId)) {
+            forEachInBatches(summaries, action);
+        }
     }
 
-    public List<TicketDto> getTicketsByUserId(Long userId) {
-        return ticketRepository.findTicketsByAssignedDeveloperId(userId).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public void streamTicketsByUserId(Long userId, Consumer<TicketDto> action) {
+        try (Stream<TicketSummary> summaries = ticketRepository.streamSummariesByAssignedDeveloperId(userId)) {
+            forEachInBatches(summaries, action);
+        }
+    }
+
+    /**
+     * Filtered, sorted keyset page. {@code sort} is one of {@link #QUERY_SORT_KEYS}; rows with equal
+     * sort values are ordered by id so the cursor position is always unique.
+     */
+    public CursorPage<TicketDto> queryTickets(TicketFilter filter, String sort, String direction,
+                                              String after, int limit) {
+        if (!QUERY_SORT_KEYS.contains(sort)) {
+            throw new BadRequestException("Unsupported sort: " + sort + " (expected one of " + QUERY_SORT_KEYS + ")");
+        }
+        boolean descending;
+        if ("asc".equalsIgnoreCase(direction)) {
+            descending = false;
+        } else if ("desc".equalsIgnoreCase(direction)) {
+            descending = true;
+        } else {
+            throw new BadRequestException("Unsupported direction: " + direction + " (expected asc or desc)");
+        }
+
+        Specification<Ticket> spec = TicketSpecifications.matching(filter);
+        CursorPage.KeysetPosition position = CursorPage.decodeKeysetCursor(sort, after);
+        if (position != null) {
+            spec = spec.and("id".equals(sort)
+                    ? TicketSpecifications.afterId(position.id(), descending)
+                    : TicketSpecifications.afterTimestamp(sort, parseCursorTimestamp(position, after),
+                            position.id(), descending));
+        }
+
+        Sort.Direction sortDirection = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort order = "id".equals(sort)
+                ? Sort.by(sortDirection, "id")
+                : Sort.by(sortDirection, sort, "id");
+        int pageSize = CursorPage.clampLimit(limit);
+
+        // Fetch one extra row to learn whether there is a next page; project and creator come from the same join
+        List<Ticket> tickets = ticketRepository.findBy(spec, query -> query
+                .sortBy(order)
+                .limit(pageSize + 1)
+                .project("project", "createdBy")
+                .all());
+        boolean hasMore = tickets.size() > pageSize;
+        List<TicketDto> dtos = convertTicketsToDtos(hasMore ? tickets.subList(0, pageSize) : tickets);
+
+        String nextCursor = null;
+        if (hasMore) {
+            TicketDto last = dtos.get(dtos.size() - 1);
+            String sortValue = switch (sort) {
+                case "createdAt" -> String.valueOf(last.getCreatedAt());
+                case "updatedAt" -> String.valueOf(last.getUpdatedAt());
+                default -> String.valueOf(last.getId());
+            };
+            nextCursor = CursorPage.encodeKeysetCursor(sort, sortValue, last.getId());
+        }
+        return new CursorPage<>(dtos, nextCursor, hasMore);
+    }
+
+    public CursorPage<TicketDto> getTicketsPage(String after, int limit) {
+        return convertSummariesToPage(ticketRepository.findSummariesAfter(
+                CursorPage.decodeCursor(after), CursorPage.pageRequest(limit)));
+    }
+
+    public CursorPage<TicketDto> getTicketsPageByProjectId(Long projectId, String after, int limit) {
+        return convertSummariesToPage(ticketRepository.findSummariesByProjectIdAfter(
+                projectId, CursorPage.decodeCursor(after), CursorPage.pageRequest(limit)));
+    }
+
+    public CursorPage<TicketDto> getTicketsPageByUserId(Long userId, String after, int limit) {
+        return convertSummariesToPage(ticketRepository.findSummariesByAssignedDeveloperIdAfter(
+                userId, CursorPage.decodeCursor(after), CursorPage.pageRequest(limit)));
+    }
+
+    public TicketStatsDto getTicketStats() {
+        return convertToStatsDto(ticketRepository.countGroupedByStatusTypeAndPriority());
+    }
+
+    public TicketStatsDto getTicketStatsByProjectId(Long projectId) {
+        return convertToStatsDto(ticketRepository.countGroupedByStatusTypeAndPriorityForProject(projectId));
+    }
+
+    public TicketStatsDto getTicketStatsByUserId(Long userId) {
+        return convertToStatsDto(ticketRepository.countGroupedByStatusTypeAndPriorityForAssignedDeveloper(userId));
     }
 
     @Transactional
@@ -69,19 +195,23 @@ public class TicketService {
         ticket.setDescription(ticketDto.getDescription());
         ticket.setProject(project);
         ticket.setCreatedBy(creator);
-        ticket.setPriority(ticketDto.getPriority() != null ? ticketDto.getPriority() : "MEDIUM");
+        ticket.setPriority(ticketDto.getPriority() != null ? ticketDto.getPriority() : TicketPriority.MEDIUM);
         // Tickets always start as OPEN when created
-        ticket.setStatus("OPEN");
-        ticket.setType(ticketDto.getType() != null ? ticketDto.getType() : "BUG");
+        ticket.setStatus(TicketStatus.OPEN);
+        ticket.setType(ticketDto.getType() != null ? ticketDto.getType() : TicketType.BUG);
         ticket.setTimeEstimate(ticketDto.getTimeEstimate());
 
-        ticket = ticketRepository.save(ticket);
-        return convertToDto(ticket);
+        // Sequence ids defer the INSERT to flush; flush now so the response carries the creation timestamps
+        ticket = ticketRepository.saveAndFlush(ticket);
+        TicketDto created = convertToDto(ticket);
+        eventPublisher.publishEvent(ProjectEvent.ticketCreated(created));
+        ticketCounterService.statusChanged(project.getId(), null, ticket.getStatus());
+        return created;
     }
 
     @Transactional
     public TicketDto updateTicket(Long id, TicketDto ticketDto, String userEmail) {
-        Ticket ticket = ticketRepository.findById(id)
+        Ticket ticket = ticketRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Ticket not found with id: " + id));
 
         User user = userRepository.findByEmail(userEmail)
@@ -93,21 +223,25 @@ public class TicketService {
         ticket.setType(ticketDto.getType());
         ticket.setTimeEstimate(ticketDto.getTimeEstimate());
 
+        TicketStatus previousStatus = ticket.getStatus();
         // Only admins can set status to CLOSED
         if (ticketDto.getStatus() != null) {
-            if ("CLOSED".equals(ticketDto.getStatus()) && !"ADMIN".equals(user.getAuthorityLevel())) {
+            if (ticketDto.getStatus() == TicketStatus.CLOSED && user.getAuthorityLevel() != AuthorityLevel.ADMIN) {
                 throw new SecurityException("Only admins can close tickets");
             }
             ticket.setStatus(ticketDto.getStatus());
         }
 
         ticket = ticketRepository.save(ticket);
-        return convertToDto(ticket);
+        TicketDto updated = convertToDto(ticket);
+        eventPublisher.publishEvent(ProjectEvent.ticketUpdated(updated));
+        ticketCounterService.statusChanged(updated.getProjectId(), previousStatus, ticket.getStatus());
+        return updated;
     }
 
     @Transactional
     public void assignDeveloper(Long ticketId, Long userId) {
-        Ticket ticket = ticketRepository.findById(ticketId)
+        Ticket ticket = ticketRepository.findByIdForUpdate(ticketId)
                 .orElseThrow(() -> new ResourceNotFoundException("Ticket not found"));
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -116,16 +250,20 @@ public class TicketService {
         user.getAssignedTickets().add(ticket);
 
         // Automatically set status to IN_PROGRESS when first developer is assigned
-        if ("OPEN".equals(ticket.getStatus())) {
-            ticket.setStatus("IN_PROGRESS");
+        TicketStatus previousStatus = ticket.getStatus();
+        if (ticket.getStatus() == TicketStatus.OPEN) {
+            ticket.setStatus(TicketStatus.IN_PROGRESS);
         }
 
         ticketRepository.save(ticket);
+        eventPublisher.publishEvent(ProjectEvent.ticketAssigned(
+                ticket.getProject().getId(), ticketId, userId, ticket.getStatus()));
+        ticketCounterService.statusChanged(ticket.getProject().getId(), previousStatus, ticket.getStatus());
     }
 
     @Transactional
     public void unassignDeveloper(Long ticketId, Long userId) {
-        Ticket ticket = ticketRepository.findById(ticketId)
+        Ticket ticket = ticketRepository.findByIdForUpdate(ticketId)
                 .orElseThrow(() -> new ResourceNotFoundException("Ticket not found"));
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -134,20 +272,38 @@ public class TicketService {
         user.getAssignedTickets().remove(ticket);
 
         // If no developers left and status is IN_PROGRESS, set back to OPEN
-        if (ticket.getAssignedDevelopers().isEmpty() && "IN_PROGRESS".equals(ticket.getStatus())) {
-            ticket.setStatus("OPEN");
+        TicketStatus previousStatus = ticket.getStatus();
+        if (ticket.getAssignedDevelopers().isEmpty() && ticket.getStatus() == TicketStatus.IN_PROGRESS) {
+            ticket.setStatus(TicketStatus.OPEN);
         }
 
         ticketRepository.save(ticket);
+        eventPublisher.publishEvent(ProjectEvent.ticketUnassigned(
+                ticket.getProject().getId(), ticketId, userId, ticket.getStatus()));
+        ticketCounterService.statusChanged(ticket.getProject().getId(), previousStatus, ticket.getStatus());
     }
 
+    @Transactional
     public void deleteTicket(Long id) {
-        Ticket ticket = ticketRepository.findById(id)
+        Ticket ticket = ticketRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Ticket not found with id: " + id));
         ticketRepository.delete(ticket);
+        eventPublisher.publishEvent(ProjectEvent.ticketDeleted(ticket.getProject().getId(), id));
+        ticketCounterService.statusChanged(ticket.getProject().getId(), ticket.getStatus(), null);
     }
 
     private TicketDto convertToDto(Ticket ticket) {
+        TicketDto dto = copyTicketFields(ticket);
+
+        Set<Long> assignedDevIds = ticket.getAssignedDevelopers().stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+        dto.setAssignedDeveloperIds(assignedDevIds);
+
+        return dto;
+    }
+
+    private TicketDto copyTicketFields(Ticket ticket) {
         TicketDto dto = new TicketDto();
         dto.setId(ticket.getId());
         dto.setTitle(ticket.getTitle());
@@ -162,17 +318,104 @@ public class TicketService {
         dto.setStatus(ticket.getStatus());
         dto.setType(ticket.getType());
         dto.setTimeEstimate(ticket.getTimeEstimate());
+        dto.setCommentCount(ticket.getCommentCount());
         dto.setCreatedAt(ticket.getCreatedAt());
         dto.setUpdatedAt(ticket.getUpdatedAt());
+        return dto;
+    }
 
-        Set<Long> assignedDevIds = ticket.getAssignedDevelopers().stream()
-                .map(User::getId)
-                .collect(Collectors.toSet());
-        dto.setAssignedDeveloperIds(assignedDevIds);
+    private List<TicketDto> convertTicketsToDtos(List<Ticket> tickets) {
+        List<TicketDto> dtos = tickets.stream()
+                .map(this::copyTicketFields)
+                .collect(Collectors.toList());
+        addAssignees(dtos);
+        return dtos;
+    }
 
-        Long commentCount = commentRepository.countByTicketId(ticket.getId());
-        dto.setCommentCount(commentCount.intValue());
+    private List<TicketDto> convertSummariesToDtos(List<TicketSummary> summaries) {
+        List<TicketDto> dtos = summaries.stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+        addAssignees(dtos);
+        return dtos;
+    }
 
+    // Summaries are projections, not managed entities, so nothing accumulates in the persistence context
+    private void forEachInBatches(Stream<TicketSummary> summaries, Consumer<TicketDto> action) {
+        List<TicketDto> batch = new ArrayList<>(BATCH_LOOKUP_SIZE);
+        Iterator<TicketSummary> iterator = summaries.iterator();
+        while (iterator.hasNext()) {
+            batch.add(convertToDto(iterator.next()));
+            if (batch.size() == BATCH_LOOKUP_SIZE || !iterator.hasNext()) {
+                addAssignees(batch);
+                batch.forEach(action);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Fills in assignees with one batched lookup per {@value #BATCH_LOOKUP_SIZE} tickets, instead of
+     * lazy loads per row.
+     */
+    private void addAssignees(List<TicketDto> dtos) {
+        for (int from = 0; from < dtos.size(); from += BATCH_LOOKUP_SIZE) {
+            List<TicketDto> batch = dtos.subList(from, Math.min(from + BATCH_LOOKUP_SIZE, dtos.size()));
+            List<Long> ticketIds = batch.stream().map(TicketDto::getId).collect(Collectors.toList());
+
+            Map<Long, Set<Long>> assignedDevIds = new HashMap<>();
+            for (IdPair pair : ticketRepository.findAssignedDeveloperIds(ticketIds)) {
+                assignedDevIds.computeIfAbsent(pair.getOwnerId(), id -> new HashSet<>()).add(pair.getMemberId());
+            }
+
+            for (TicketDto dto : batch) {
+                dto.setAssignedDeveloperIds(assignedDevIds.getOrDefault(dto.getId(), new HashSet<>()));
+            }
+        }
+    }
+
+    private CursorPage<TicketDto> convertSummariesToPage(Slice<TicketSummary> slice) {
+        return CursorPage.of(convertSummariesToDtos(slice.getContent()), slice.hasNext(), TicketDto::getId);
+    }
+
+    private LocalDateTime parseCursorTimestamp(CursorPage.KeysetPosition position, String cursor) {
+        try {
+            return LocalDateTime.parse(position.sortValue());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private TicketStatsDto convertToStatsDto(List<TicketStatsRow> rows) {
+        TicketStatsDto stats = new TicketStatsDto();
+        for (TicketStatsRow row : rows) {
+            long count = row.getCount();
+            stats.setTotal(stats.getTotal() + count);
+            stats.getByStatus().merge(row.getStatus().name(), count, Long::sum);
+            stats.getByType().merge(row.getType().name(), count, Long::sum);
+            stats.getByPriority().merge(row.getPriority().name(), count, Long::sum);
+        }
+        return stats;
+    }
+
+    private TicketDto convertToDto(TicketSummary summary) {
+        TicketDto dto = new TicketDto();
+        dto.setId(summary.getId());
+        dto.setTitle(summary.getTitle());
+        dto.setDescription(summary.getDescription());
+        dto.setProjectId(summary.getProjectId());
+        dto.setProjectName(summary.getProjectName());
+        if (summary.getCreatedById() != null) {
+            dto.setCreatedById(summary.getCreatedById());
+            dto.setCreatedByName(summary.getCreatedByFirstName() + " " + summary.getCreatedByLastName());
+        }
+        dto.setPriority(summary.getPriority());
+        dto.setStatus(summary.getStatus());
+        dto.setType(summary.getType());
+        dto.setTimeEstimate(summary.getTimeEstimate());
+        dto.setCommentCount(summary.getCommentCount());
+        dto.setCreatedAt(summary.getCreatedAt());
+        dto.setUpdatedAt(summary.getUpdatedAt());
         return dto;
     }
 }
\ No newline at end of file
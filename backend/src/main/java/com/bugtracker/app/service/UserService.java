@@ -1,11 +1,15 @@
 package com.bugtracker.app.service;
 
+import com.bugtracker.app.dto.CursorPage;
 import com.bugtracker.app.dto.UserDto;
 import com.bugtracker.app.entity.User;
 import com.bugtracker.app.exception.ResourceNotFoundException;
 import com.bugtracker.app.repository.UserRepository;
+import com.bugtracker.app.security.PrincipalCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,12 +20,33 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @Autowired
+    private ContentVersionService contentVersionService;
+
+    @Autowired
+    private TicketCounterService ticketCounterService;
+
     public List<UserDto> getAllUsers() {
         return userRepository.findAll().stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
 
+    public CursorPage<UserDto> getUsersPage(String after, int limit) {
+        Slice<User> slice = userRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorPage.decodeCursor(after), CursorPage.pageRequest(limit));
+        List<UserDto> dtos = slice.getContent().stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+        return CursorPage.of(dtos, slice.hasNext(), UserDto::getId);
+    }
+
     public UserDto getUserById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
@@ -34,24 +59,36 @@ public class UserService {
         return convertToDto(user);
     }
 
+    @Transactional
     public UserDto updateUser(Long id, UserDto userDto) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
 
         user.setFirstName(userDto.getFirstName());
         user.setLastName(userDto.getLastName());
-        if (userDto.getAuthorityLevel() != null) {
+        if (userDto.getAuthorityLevel() != null && userDto.getAuthorityLevel() != user.getAuthorityLevel()) {
             user.setAuthorityLevel(userDto.getAuthorityLevel());
+            principalCache.invalidateAfterCommit(user.getEmail());
         }
 
         user = userRepository.save(user);
+        // User names are embedded in ticket, project and comment responses across projects
+        contentVersionService.bumpGlobal();
         return convertToDto(user);
     }
 
+    @Transactional
     public void deleteUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        ticketCounterService.userDeleting(id);
         userRepository.delete(user);
+        principalCache.invalidateAfterCommit(user.getEmail());
+        // The database cascades the delete into user_projects and dev_assignments behind the cached
+        // project member and ticket assignee lists
+        entityCacheEvictor.evictTeamMembershipAfterCommit();
+        entityCacheEvictor.evictAssignedDevelopersAfterCommit();
+        contentVersionService.bumpGlobal();
     }
 
     private UserDto convertToDto(User user) {
@@ -0,0 +1,9 @@
+-- Keeps the id sequences' increments equal to db.id-allocation-size. Flyway checksums repeatable
+-- migrations together with their placeholder values, so this runs again whenever the size changes.
+-- Only the increment changes: the pooled optimizer reads each value as the top of a block, and
+-- the next value is still above every id handed out under the old size.
+
+ALTER SEQUENCE tickets_seq INCREMENT BY ${idAllocationSize};
+ALTER SEQUENCE users_seq INCREMENT BY ${idAllocationSize};
+ALTER SEQUENCE projects_seq INCREMENT BY ${idAllocationSize};
+ALTER SEQUENCE comments_seq INCREMENT BY ${idAllocationSize};
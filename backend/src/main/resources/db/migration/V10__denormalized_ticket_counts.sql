@@ -0,0 +1,24 @@
+-- Counts shown on every ticket and project, kept up to date by the statements that change them
+-- (see TicketCounterService) instead of COUNT(*) queries per listed row. A scheduled job compares
+-- them with the real counts and repairs any drift.
+
+ALTER TABLE tickets ADD COLUMN comment_count INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE projects ADD COLUMN open_ticket_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN in_progress_ticket_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN closed_ticket_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE tickets t SET comment_count = c.count
+FROM (SELECT ticket_id, COUNT(*) AS count FROM comments GROUP BY ticket_id) c
+WHERE c.ticket_id = t.id;
+
+-- Status codes as in V5: 1 = OPEN, 2 = IN_PROGRESS, 3 = CLOSED
+UPDATE projects p SET open_ticket_count = s.open,
+                      in_progress_ticket_count = s.in_progress,
+                      closed_ticket_count = s.closed
+FROM (SELECT project_id,
+             COUNT(*) FILTER (WHERE status = 1) AS open,
+             COUNT(*) FILTER (WHERE status = 2) AS in_progress,
+             COUNT(*) FILTER (WHERE status = 3) AS closed
+      FROM tickets GROUP BY project_id) s
+WHERE s.project_id = p.id;
@@ -0,0 +1,11 @@
+-- Change counter for changes that show up in every project's responses, such as a user's name.
+-- It is part of every project's version, so such a change no longer has to bump (and lock) every
+-- row of projects. The table holds exactly one row.
+
+CREATE TABLE global_content_version (
+    id INTEGER PRIMARY KEY CHECK (id = 1),
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO global_content_version (id) VALUES (1);
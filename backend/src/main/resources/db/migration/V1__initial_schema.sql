@@ -1,13 +1,8 @@
 -- Bug Tracker Database Schema
 -- PostgreSQL
-
--- Drop tables if they exist (for clean setup)
-DROP TABLE IF EXISTS dev_assignments CASCADE;
-DROP TABLE IF EXISTS user_projects CASCADE;
-DROP TABLE IF EXISTS comments CASCADE;
-DROP TABLE IF EXISTS tickets CASCADE;
-DROP TABLE IF EXISTS projects CASCADE;
-DROP TABLE IF EXISTS users CASCADE;
+--
+-- Applied by Flyway on an empty database. Existing databases are baselined at version 1,
+-- so later migrations must not assume anything created here beyond the tables themselves.
 
 -- Users table
 CREATE TABLE users (
@@ -75,17 +70,6 @@ CREATE TABLE dev_assignments (
     UNIQUE(user_id, ticket_id)
 );
 
--- Create indexes for better query performance
-CREATE INDEX idx_tickets_project_id ON tickets(project_id);
-CREATE INDEX idx_tickets_created_by ON tickets(created_by);
-CREATE INDEX idx_tickets_status ON tickets(status);
-CREATE INDEX idx_comments_ticket_id ON comments(ticket_id);
-CREATE INDEX idx_comments_user_id ON comments(user_id);
-CREATE INDEX idx_user_projects_user_id ON user_projects(user_id);
-CREATE INDEX idx_user_projects_project_id ON user_projects(project_id);
-CREATE INDEX idx_dev_assignments_user_id ON dev_assignments(user_id);
-CREATE INDEX idx_dev_assignments_ticket_id ON dev_assignments(ticket_id);
-
 -- Insert sample admin user (password: admin123 - hashed with bcrypt)
 -- Note: You should change this password in production!
 INSERT INTO users (email, password, first_name, last_name, authority_level)
@@ -0,0 +1,40 @@
+-- Secondary indexes matching the repository finders and keyset pagination.
+-- IF NOT EXISTS / IF EXISTS keep this safe for databases created by hand from the
+-- old schema.sql as well as those created by Hibernate's ddl-auto.
+
+-- Tickets: project listings (keyset on id), project/status filters, status/priority filters
+CREATE INDEX IF NOT EXISTS idx_tickets_project_id_id ON tickets(project_id, id);
+CREATE INDEX IF NOT EXISTS idx_tickets_project_id_status ON tickets(project_id, status);
+CREATE INDEX IF NOT EXISTS idx_tickets_status_priority ON tickets(status, priority);
+CREATE INDEX IF NOT EXISTS idx_tickets_created_by ON tickets(created_by);
+DROP INDEX IF EXISTS idx_tickets_project_id;
+DROP INDEX IF EXISTS idx_tickets_status;
+
+-- Comments: per-ticket listings (keyset on id) and grouped counts
+CREATE INDEX IF NOT EXISTS idx_comments_ticket_id_id ON comments(ticket_id, id);
+CREATE INDEX IF NOT EXISTS idx_comments_user_id ON comments(user_id);
+DROP INDEX IF EXISTS idx_comments_ticket_id;
+
+-- Join tables are looked up from both sides. Depending on how the database was created the
+-- existing key leads with either column (schema.sql: user_id first, Hibernate ddl-auto:
+-- alphabetical), so only add an index for a side that has no index leading with it.
+DO $$
+DECLARE
+    spec TEXT[];
+BEGIN
+    FOREACH spec SLICE 1 IN ARRAY ARRAY[
+            ['dev_assignments', 'ticket_id', 'user_id'],
+            ['dev_assignments', 'user_id', 'ticket_id'],
+            ['user_projects', 'project_id', 'user_id'],
+            ['user_projects', 'user_id', 'project_id']]
+    LOOP
+        IF NOT EXISTS (
+                SELECT 1
+                FROM pg_index i
+                JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]
+                WHERE i.indrelid = spec[1]::regclass AND a.attname = spec[2]) THEN
+            EXECUTE format('CREATE INDEX %I ON %I (%I, %I)',
+                    'idx_' || spec[1] || '_' || spec[2] || '_' || spec[3], spec[1], spec[2], spec[3]);
+        END IF;
+    END LOOP;
+END $$;
@@ -0,0 +1,15 @@
+-- Indexes for GET /api/tickets/query. Every filter has an index that leads with its column, so
+-- any combination is answered by index scans (combined with BitmapAnd when several are set):
+--   status               idx_tickets_status_priority
+--   priority             idx_tickets_priority
+--   type                 idx_tickets_type
+--   project              idx_tickets_project_id_id
+--   creator              idx_tickets_created_by
+--   assignee             dev_assignments index leading with user_id
+--   created/updated      idx_tickets_created_at_id / idx_tickets_updated_at_id
+-- The timestamp indexes end in id so the keyset sort (column, id) is read in index order.
+
+CREATE INDEX IF NOT EXISTS idx_tickets_priority ON tickets(priority);
+CREATE INDEX IF NOT EXISTS idx_tickets_type ON tickets(type);
+CREATE INDEX IF NOT EXISTS idx_tickets_created_at_id ON tickets(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tickets_updated_at_id ON tickets(updated_at, id);
@@ -0,0 +1,60 @@
+-- Ticket status/priority/type and user authority level move from VARCHAR names to SMALLINT codes.
+-- The codes must match the CodedEnum constants in com.bugtracker.app.entity:
+--   status:          OPEN=1, IN_PROGRESS=2, CLOSED=3
+--   priority:        LOW=1, MEDIUM=2, HIGH=3
+--   type:            BUG=1, FEATURE=2, ENHANCEMENT=3, DOCUMENTATION=4
+--   authority_level: USER=1, ADMIN=2
+-- Indexes on these columns are rebuilt by the type change.
+
+-- Refuse to guess: any value without a code aborts the migration before anything is rewritten
+DO $$
+DECLARE
+    unknown TEXT;
+BEGIN
+    SELECT string_agg(DISTINCT v, ', ') INTO unknown FROM (
+        SELECT 'tickets.status=' || status AS v FROM tickets
+            WHERE status NOT IN ('OPEN', 'IN_PROGRESS', 'CLOSED')
+        UNION ALL
+        SELECT 'tickets.priority=' || priority FROM tickets
+            WHERE priority NOT IN ('LOW', 'MEDIUM', 'HIGH')
+        UNION ALL
+        SELECT 'tickets.type=' || type FROM tickets
+            WHERE type NOT IN ('BUG', 'FEATURE', 'ENHANCEMENT', 'DOCUMENTATION')
+        UNION ALL
+        SELECT 'users.authority_level=' || authority_level FROM users
+            WHERE authority_level NOT IN ('USER', 'ADMIN')) bad;
+    IF unknown IS NOT NULL THEN
+        RAISE EXCEPTION 'Cannot convert unknown enum values to codes: %', unknown;
+    END IF;
+END $$;
+
+ALTER TABLE tickets
+    ALTER COLUMN status DROP DEFAULT,
+    ALTER COLUMN priority DROP DEFAULT,
+    ALTER COLUMN type DROP DEFAULT;
+
+ALTER TABLE tickets
+    ALTER COLUMN status TYPE SMALLINT USING CASE COALESCE(status, 'OPEN')
+        WHEN 'OPEN' THEN 1 WHEN 'IN_PROGRESS' THEN 2 WHEN 'CLOSED' THEN 3 END,
+    ALTER COLUMN priority TYPE SMALLINT USING CASE COALESCE(priority, 'MEDIUM')
+        WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 END,
+    ALTER COLUMN type TYPE SMALLINT USING CASE COALESCE(type, 'BUG')
+        WHEN 'BUG' THEN 1 WHEN 'FEATURE' THEN 2 WHEN 'ENHANCEMENT' THEN 3 WHEN 'DOCUMENTATION' THEN 4 END;
+
+ALTER TABLE tickets
+    ALTER COLUMN status SET DEFAULT 1,
+    ALTER COLUMN status SET NOT NULL,
+    ALTER COLUMN priority SET DEFAULT 2,
+    ALTER COLUMN priority SET NOT NULL,
+    ALTER COLUMN type SET DEFAULT 1,
+    ALTER COLUMN type SET NOT NULL;
+
+ALTER TABLE users ALTER COLUMN authority_level DROP DEFAULT;
+
+ALTER TABLE users
+    ALTER COLUMN authority_level TYPE SMALLINT USING CASE COALESCE(authority_level, 'USER')
+        WHEN 'USER' THEN 1 WHEN 'ADMIN' THEN 2 END;
+
+ALTER TABLE users
+    ALTER COLUMN authority_level SET DEFAULT 1,
+    ALTER COLUMN authority_level SET NOT NULL;
@@ -0,0 +1,16 @@
+-- Ticket ids move from IDENTITY/BIGSERIAL to a sequence Hibernate allocates from in blocks of 50
+-- (pooled optimizer), which is what allows JDBC batch inserts.
+--
+-- Hibernate treats each nextval as the top of its block: with the sequence set to max(id), the next
+-- call returns max(id) + 50 and Hibernate hands out max(id) + 1 .. max(id) + 50. Plain SQL inserts
+-- using the column default take a whole block's top value, so they never collide with ids
+-- Hibernate has allocated.
+
+CREATE SEQUENCE IF NOT EXISTS tickets_seq INCREMENT BY 50;
+SELECT setval('tickets_seq', (SELECT GREATEST(COALESCE(MAX(id), 0), 1) FROM tickets), true);
+
+-- Databases created by Hibernate have an identity column, those from schema.sql a serial default
+ALTER TABLE tickets ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tickets ALTER COLUMN id SET DEFAULT nextval('tickets_seq');
+ALTER SEQUENCE tickets_seq OWNED BY tickets.id;
+DROP SEQUENCE IF EXISTS tickets_id_seq;
@@ -0,0 +1,24 @@
+-- Users, projects and comments follow tickets (V6) from IDENTITY/BIGSERIAL to pooled sequences, so
+-- their inserts can be batched as well. The increment matches db.id-allocation-size; see V6 for why
+-- the sequences start at max(id).
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY ${idAllocationSize};
+SELECT setval('users_seq', (SELECT GREATEST(COALESCE(MAX(id), 0), 1) FROM users), true);
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+ALTER SEQUENCE users_seq OWNED BY users.id;
+DROP SEQUENCE IF EXISTS users_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS projects_seq INCREMENT BY ${idAllocationSize};
+SELECT setval('projects_seq', (SELECT GREATEST(COALESCE(MAX(id), 0), 1) FROM projects), true);
+ALTER TABLE projects ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE projects ALTER COLUMN id SET DEFAULT nextval('projects_seq');
+ALTER SEQUENCE projects_seq OWNED BY projects.id;
+DROP SEQUENCE IF EXISTS projects_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS comments_seq INCREMENT BY ${idAllocationSize};
+SELECT setval('comments_seq', (SELECT GREATEST(COALESCE(MAX(id), 0), 1) FROM comments), true);
+ALTER TABLE comments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE comments ALTER COLUMN id SET DEFAULT nextval('comments_seq');
+ALTER SEQUENCE comments_seq OWNED BY comments.id;
+DROP SEQUENCE IF EXISTS comments_id_seq;
@@ -0,0 +1,6 @@
+-- Per-project change counter for conditional GETs (ETag / Last-Modified). It is bumped in the same
+-- transaction as any change to the project, its team, its tickets, assignments or comments, so
+-- clients can revalidate a project's resources with a primary-key lookup instead of a full read.
+
+ALTER TABLE projects ADD COLUMN content_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN content_updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
@@ -0,0 +1,5 @@
+-- Identifier a ticket had in the tracker it was imported from (POST /api/projects/{id}/import).
+-- Unique within a project, so that re-running an import skips the tickets it already created.
+-- NULL for tickets created here; NULLs never conflict.
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS external_ref VARCHAR(255);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_tickets_project_id_external_ref ON tickets (project_id, external_ref);
@@ -0,0 +1,239 @@
+package com.bugtracker.app.repository;
+
+import com.bugtracker.app.dto.CursorPage;
+import com.bugtracker.app.dto.TicketFilter;
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
+import com.bugtracker.app.service.TicketService;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every filter combination of {@code GET /api/tickets/query}, with each sort key, on the first page
+ * and on a keyset page, must be planned without a sequential scan of tickets. Runs the generated SQL
+ * through EXPLAIN on PostgreSQL, since H2's planner says nothing about PostgreSQL's.
+ *
+ * <p>Needs a PostgreSQL database it may migrate and fill with test data:
+ * {@code BUGTRACKER_TEST_DB_URL} (default {@code jdbc:postgresql://localhost:5432/bugtracker_test}),
+ * with {@code BUGTRACKER_TEST_DB_USERNAME} and {@code BUGTRACKER_TEST_DB_PASSWORD} (default
+ * {@code postgres}). Skipped when it can't connect.
+ */
+@SpringBootTest(properties = "management.server.port=0")
+@EnabledIf("databaseAvailable")
+class TicketQueryPlanTest {
+
+    private static final String URL = env("BUGTRACKER_TEST_DB_URL", "jdbc:postgresql://localhost:5432/bugtracker_test");
+    private static final String USERNAME = env("BUGTRACKER_TEST_DB_USERNAME", "postgres");
+    private static final String PASSWORD = env("BUGTRACKER_TEST_DB_PASSWORD", "postgres");
+
+    // Enough rows that the planner prefers indexes wherever they help
+    private static final int TICKETS = 100_000;
+    private static final Pattern TICKETS_SEQ_SCAN = Pattern.compile("Seq Scan on tickets\\b");
+
+    // Statements seen on the current thread while a query is captured
+    private static final ThreadLocal<List<QueryInfo>> captured = new ThreadLocal<>();
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> URL);
+        registry.add("spring.datasource.username", () -> USERNAME);
+        registry.add("spring.datasource.password", () -> PASSWORD);
+    }
+
+    static boolean databaseAvailable() {
+        try {
+            DriverManager.getConnection(URL, USERNAME, PASSWORD).close();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    static List<String> sortKeys() {
+        return TicketService.QUERY_SORT_KEYS;
+    }
+
+    @BeforeEach
+    void seed() {
+        Integer tickets = jdbcTemplate.queryForObject("SELECT count(*) FROM tickets", Integer.class);
+        if (tickets >= TICKETS) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO users (email, password, first_name, last_name) "
+                + "SELECT 'plan' || g || '@bugtracker.com', 'unused', 'Plan', 'User ' || g "
+                + "FROM generate_series(1, 200) g");
+        jdbcTemplate.update("INSERT INTO projects (name, created_by) "
+                + "SELECT 'Plan project ' || g, (SELECT min(id) FROM users) FROM generate_series(1, 50) g");
+        // Spread over every status, priority and type, two years of creation dates and all projects and users
+        jdbcTemplate.update("INSERT INTO tickets (title, project_id, created_by, status, priority, type, created_at, updated_at) "
+                + "SELECT 'Plan ticket ' || g, p.ids[1 + g % cardinality(p.ids)], u.ids[1 + g % cardinality(u.ids)], "
+                + "1 + g % 3, 1 + (g / 3) % 3, 1 + (g / 9) % 4, "
+                + "now() - make_interval(mins => g * 10), now() - make_interval(mins => g * 5) "
+                + "FROM generate_series(1, ?) g, (SELECT array_agg(id) AS ids FROM projects) p, "
+                + "(SELECT array_agg(id) AS ids FROM users) u", TICKETS);
+        jdbcTemplate.update("INSERT INTO dev_assignments (user_id, ticket_id) "
+                + "SELECT u.ids[1 + t.id % cardinality(u.ids)], t.id FROM tickets t, "
+                + "(SELECT array_agg(id) AS ids FROM users) u ON CONFLICT DO NOTHING");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @ParameterizedTest
+    @MethodSource("sortKeys")
+    void everyFilterCombinationAvoidsSequentialScansOfTickets(String sort) {
+        Long projectId = jdbcTemplate.queryForObject("SELECT max(id) FROM projects", Long.class);
+        Long userId = jdbcTemplate.queryForObject("SELECT max(id) FROM users", Long.class);
+        Long ticketId = jdbcTemplate.queryForObject("SELECT max(id) / 2 FROM tickets", Long.class);
+        LocalDateTime now = LocalDateTime.now();
+        String keysetValue = "id".equals(sort) ? String.valueOf(ticketId) : now.minusDays(200).toString();
+
+        List<String> failures = new ArrayList<>();
+        // One bit per filter: status, priority, type, project, creator, assignee, created range, updated range
+        for (int filters = 0; filters < 1 << 8; filters++) {
+            TicketFilter filter = new TicketFilter();
+            if ((filters & 1) != 0) {
+                filter.setStatus(List.of(TicketStatus.OPEN, TicketStatus.IN_PROGRESS));
+            }
+            if ((filters & 2) != 0) {
+                filter.setPriority(List.of(TicketPriority.HIGH));
+            }
+            if ((filters & 4) != 0) {
+                filter.setType(List.of(TicketType.BUG));
+            }
+            if ((filters & 8) != 0) {
+                filter.setProjectId(projectId);
+            }
+            if ((filters & 16) != 0) {
+                filter.setCreatedById(userId);
+            }
+            if ((filters & 32) != 0) {
+                filter.setAssigneeId(userId);
+            }
+            if ((filters & 64) != 0) {
+                filter.setCreatedAfter(now.minusDays(60));
+                filter.setCreatedBefore(now.minusDays(30));
+            }
+            if ((filters & 128) != 0) {
+                filter.setUpdatedAfter(now.minusDays(30));
+                filter.setUpdatedBefore(now);
+            }
+
+            for (String after : new String[]{null, CursorPage.encodeKeysetCursor(sort, keysetValue, ticketId)}) {
+                String direction = after == null ? "desc" : "asc";
+                QueryInfo query = captureTicketQuery(() -> ticketService.queryTickets(filter, sort, direction, after, 50));
+                String plan = explain(query);
+                if (TICKETS_SEQ_SCAN.matcher(plan).find()) {
+                    failures.add("filters=" + Integer.toBinaryString(filters) + " sort=" + sort + " " + direction
+                            + (after != null ? " after cursor" : "") + "\n" + query.getQuery() + "\n" + plan);
+                }
+            }
+        }
+        assertThat(failures).isEmpty();
+    }
+
+    private QueryInfo captureTicketQuery(Runnable work) {
+        List<QueryInfo> queries = new ArrayList<>();
+        captured.set(queries);
+        try {
+            work.run();
+        } finally {
+            captured.remove();
+        }
+        return queries.stream()
+                .filter(query -> query.getQuery().startsWith("select") && query.getQuery().contains(" from tickets "))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No query on tickets among " + queries.size() + " statements"));
+    }
+
+    private String explain(QueryInfo query) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.getQuery())) {
+                // Replays the same setter calls, so parameters keep the types Hibernate bound them with
+                for (ParameterSetOperation operation : query.getParametersList().get(0)) {
+                    try {
+                        operation.getMethod().invoke(statement, operation.getArgs());
+                    } catch (ReflectiveOperationException e) {
+                        throw new IllegalStateException("Could not bind " + operation.getMethod(), e);
+                    }
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isEmpty() ? value : defaultValue;
+    }
+
+    @TestConfiguration
+    static class QueryCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor queryCapturingDataSourceWrapper() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(new QueryExecutionListener() {
+                                @Override
+                                public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                                    List<QueryInfo> queries = captured.get();
+                                    if (queries != null) {
+                                        queries.addAll(queryInfoList);
+                                    }
+                                }
+
+                                @Override
+                                public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                                }
+                            })
+                            .build();
+                }
+            };
+        }
+    }
+}
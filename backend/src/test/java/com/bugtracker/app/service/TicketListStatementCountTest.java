@@ -0,0 +1,141 @@
+package com.bugtracker.app.service;
+
+import com.bugtracker.app.dto.TicketDto;
+import com.bugtracker.app.entity.AuthorityLevel;
+import com.bugtracker.app.entity.Project;
+import com.bugtracker.app.entity.Ticket;
+import com.bugtracker.app.entity.TicketPriority;
+import com.bugtracker.app.entity.TicketStatus;
+import com.bugtracker.app.entity.TicketType;
+import com.bugtracker.app.entity.User;
+import com.bugtracker.app.metrics.RequestStatementCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The unpaged ticket lists must run a fixed number of SQL statements, whatever the number of
+ * tickets: one cursor query plus one assignee lookup per batch of 1000. Each test measures a list
+ * of N tickets, grows it to 10N and measures again. All tests together stay below one batch.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TicketListStatementCountTest {
+
+    private static final int N = 20;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private RequestStatementCounter statementCounter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long userId;
+    private Long projectId;
+
+    @BeforeEach
+    void createProject() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = new User();
+            user.setEmail("statements-" + UUID.randomUUID() + "@bugtracker.com");
+            user.setPassword("unused");
+            user.setFirstName("Statement");
+            user.setLastName("Counter");
+            user.setAuthorityLevel(AuthorityLevel.USER);
+            entityManager.persist(user);
+
+            Project project = new Project();
+            project.setName("Statement count project");
+            project.setCreatedBy(user);
+            entityManager.persist(project);
+
+            userId = user.getId();
+            projectId = project.getId();
+        });
+    }
+
+    @Test
+    void streamAllTicketsRunsTheSameStatementsForTenTimesTheTickets() {
+        assertFixedStatementCount(ticketService::streamAllTickets);
+    }
+
+    @Test
+    void streamTicketsByProjectIdRunsTheSameStatementsForTenTimesTheTickets() {
+        assertFixedStatementCount(action -> ticketService.streamTicketsByProjectId(projectId, action));
+    }
+
+    @Test
+    void streamTicketsByUserIdRunsTheSameStatementsForTenTimesTheTickets() {
+        assertFixedStatementCount(action -> ticketService.streamTicketsByUserId(userId, action));
+    }
+
+    private void assertFixedStatementCount(Consumer<Consumer<TicketDto>> list) {
+        addTickets(N);
+        List<TicketDto> small = new ArrayList<>();
+        int smallCount = countStatements(() -> list.accept(small::add));
+
+        addTickets(9 * N);
+        List<TicketDto> large = new ArrayList<>();
+        int largeCount = countStatements(() -> list.accept(large::add));
+
+        assertThat(large).hasSizeGreaterThanOrEqualTo(small.size() + 9 * N);
+        assertThat(large).filteredOn(dto -> dto.getProjectId().equals(projectId))
+                .hasSize(10 * N)
+                .allSatisfy(dto -> assertThat(dto.getAssignedDeveloperIds()).containsExactly(userId));
+        assertThat(smallCount).isLessThanOrEqualTo(2);
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    private int countStatements(Runnable work) {
+        int statements;
+        statementCounter.start();
+        try {
+            work.run();
+        } finally {
+            statements = statementCounter.stop();
+        }
+        return statements;
+    }
+
+    private void addTickets(int count) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Project project = entityManager.getReference(Project.class, projectId);
+            User user = entityManager.getReference(User.class, userId);
+            List<Object[]> assignments = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                Ticket ticket = new Ticket();
+                ticket.setTitle("Ticket " + i);
+                ticket.setProject(project);
+                ticket.setCreatedBy(user);
+                ticket.setStatus(TicketStatus.IN_PROGRESS);
+                ticket.setPriority(TicketPriority.HIGH);
+                ticket.setType(TicketType.BUG);
+                entityManager.persist(ticket);
+                assignments.add(new Object[]{userId, ticket.getId()});
+            }
+            entityManager.flush();
+            jdbcTemplate.batchUpdate("INSERT INTO dev_assignments (user_id, ticket_id) VALUES (?, ?)", assignments);
+        });
+    }
+}
@@ -9,6 +9,7 @@ export const authAPI = {
 // User API
 export const userAPI = {
   getAllUsers: () => axios.get('/users'),
+  getUsersPage: (params) => axios.get('/users', { params }),
   getUserById: (id) => axios.get(`/users/${id}`),
   getCurrentUser: () => axios.get('/users/me'),
   updateUser: (id, userData) => axios.put(`/users/${id}`, userData),
@@ -18,8 +19,10 @@ export const userAPI = {
 // Project API
 export const projectAPI = {
   getAllProjects: () => axios.get('/projects'),
+  getProjectsPage: (params) => axios.get('/projects', { params }),
   getProjectById: (id) => axios.get(`/projects/${id}`),
   getProjectsByUserId: (userId) => axios.get(`/projects/user/${userId}`),
+  getProjectsPageByUserId: (userId, params) => axios.get(`/projects/user/${userId}`, { params }),
   createProject: (projectData) => axios.post('/projects', projectData),
   updateProject: (id, projectData) => axios.put(`/projects/${id}`, projectData),
   deleteProject: (id) => axios.delete(`/projects/${id}`),
@@ -30,10 +33,18 @@ export const projectAPI = {
 // Ticket API
 export const ticketAPI = {
   getAllTickets: () => axios.get('/tickets'),
+  getTicketsPage: (params) => axios.get('/tickets', { params }),
   getTicketById: (id) => axios.get(`/tickets/${id}`),
   getTicketsByProjectId: (projectId) => axios.get(`/tickets/project/${projectId}`),
+  getTicketsPageByProjectId: (projectId, params) => axios.get(`/tickets/project/${projectId}`, { params }),
   getTicketsByUserId: (userId) => axios.get(`/tickets/user/${userId}`),
+  getTicketsPageByUserId: (userId, params) => axios.get(`/tickets/user/${userId}`, { params }),
+  queryTickets: (params) => axios.get('/tickets/query', { params, paramsSerializer: { indexes: null } }),
+  getTicketStats: () => axios.get('/tickets/stats'),
+  getTicketStatsByProjectId: (projectId) => axios.get(`/tickets/project/${projectId}/stats`),
+  getTicketStatsByUserId: (userId) => axios.get(`/tickets/user/${userId}/stats`),
   createTicket: (ticketData) => axios.post('/tickets', ticketData),
+  executeTicketBatch: (operations) => axios.post('/tickets/batch', { operations }),
   updateTicket: (id, ticketData) => axios.put(`/tickets/${id}`, ticketData),
   deleteTicket: (id) => axios.delete(`/tickets/${id}`),
   assignDeveloper: (ticketId, userId) => axios.post(`/tickets/${ticketId}/assign/${userId}`),
@@ -43,8 +54,23 @@ export const ticketAPI = {
 // Comment API
 export const commentAPI = {
   getCommentsByTicketId: (ticketId) => axios.get(`/comments/ticket/${ticketId}`),
+  getCommentsPageByTicketId: (ticketId, params) => axios.get(`/comments/ticket/${ticketId}`, { params }),
   getCommentById: (id) => axios.get(`/comments/${id}`),
   createComment: (commentData) => axios.post('/comments', commentData),
   updateComment: (id, commentData) => axios.put(`/comments/${id}`, commentData),
   deleteComment: (id) => axios.delete(`/comments/${id}`),
-};
\ No newline at end of file
+};
+
+// Search API
+export const searchAPI = {
+  search: (params) => axios.get('/search', { params }),
+};
+
+// Stream API (Server-Sent Events). EventSource can't send an Authorization header, so the token
+// goes in the query string, which the backend accepts for /stream paths only.
+export const streamAPI = {
+  subscribeToProject: (projectId, version) => new EventSource(
+    `${axios.defaults.baseURL}/stream/projects/${projectId}?token=${encodeURIComponent(localStorage.getItem('token'))}`
+      + (version ? `&version=${encodeURIComponent(version)}` : '')
+  ),
+};
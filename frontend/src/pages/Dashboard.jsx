@@ -11,6 +11,7 @@ const Dashboard = () => {
   const navigate = useNavigate()
   const [projects, setProjects] = useState([])
   const [tickets, setTickets] = useState([])
+  const [stats, setStats] = useState({ total: 0, byStatus: {}, byType: {}, byPriority: {} })
   const [loading, setLoading] = useState(true)
 
   useEffect(() => {
@@ -20,13 +21,15 @@ const Dashboard = () => {
   const fetchDashboardData = async () => {
     try {
       // Admins see all projects and tickets, regular users see only their own
-      const [projectsRes, ticketsRes] = await Promise.all([
+      const [projectsRes, ticketsRes, statsRes] = await Promise.all([
         isAdmin() ? projectAPI.getAllProjects() : projectAPI.getProjectsByUserId(user.id),
-        isAdmin() ? ticketAPI.getAllTickets() : ticketAPI.getTicketsByUserId(user.id),
+        isAdmin() ? ticketAPI.getTicketsPage({ limit: 5 }) : ticketAPI.getTicketsPageByUserId(user.id, { limit: 5 }),
+        isAdmin() ? ticketAPI.getTicketStats() : ticketAPI.getTicketStatsByUserId(user.id),
       ])
 
       setProjects(projectsRes.data)
-      setTickets(ticketsRes.data)
+      setTickets(ticketsRes.data.items)
+      setStats(statsRes.data)
     } catch (error) {
       toast.error('Failed to load dashboard data')
       console.error(error)
@@ -46,20 +49,21 @@ const Dashboard = () => {
     )
   }
 
-  const openTickets = tickets.filter(t => t.status === 'OPEN').length
-  const inProgressTickets = tickets.filter(t => t.status === 'IN_PROGRESS').length
-  const closedTickets = tickets.filter(t => t.status === 'CLOSED').length
+  // Counts are aggregated server-side by /tickets/stats
+  const openTickets = stats.byStatus.OPEN || 0
+  const inProgressTickets = stats.byStatus.IN_PROGRESS || 0
+  const closedTickets = stats.byStatus.CLOSED || 0
 
   // Ticket data by type
-  const bugTickets = tickets.filter(t => t.type === 'BUG').length
-  const featureTickets = tickets.filter(t => t.type === 'FEATURE').length
-  const enhancementTickets = tickets.filter(t => t.type === 'ENHANCEMENT').length
-  const docTickets = tickets.filter(t => t.type === 'DOCUMENTATION').length
+  const bugTickets = stats.byType.BUG || 0
+  const featureTickets = stats.byType.FEATURE || 0
+  const enhancementTickets = stats.byType.ENHANCEMENT || 0
+  const docTickets = stats.byType.DOCUMENTATION || 0
 
   // Ticket data by priority
-  const highPriority = tickets.filter(t => t.priority === 'HIGH').length
-  const mediumPriority = tickets.filter(t => t.priority === 'MEDIUM').length
-  const lowPriority = tickets.filter(t => t.priority === 'LOW').length
+  const highPriority = stats.byPriority.HIGH || 0
+  const mediumPriority = stats.byPriority.MEDIUM || 0
+  const lowPriority = stats.byPriority.LOW || 0
 
   return (
     <>
@@ -85,7 +89,7 @@ const Dashboard = () => {
                 <img src="/ticket-icon.svg" alt="Tickets" style={{ width: '48px', height: '48px' }} />
               </span>
               <CardTitle tag="h6" className="text-white-50 text-uppercase mb-2">All Tickets</CardTitle>
-              <h2 className="display-4 text-white mb-0">{tickets.length}</h2>
+              <h2 className="display-4 text-white mb-0">{stats.total}</h2>
             </CardBody>
           </Card>
         </Col>
@@ -3,11 +3,13 @@ import { useParams, Link } from 'react-router-dom'
 import { Card, CardBody, Button, Row, Col, Badge, Modal, ModalHeader, ModalBody, Form, FormGroup, Label, Input, CardTitle } from 'reactstrap'
 import { projectAPI, ticketAPI } from '../api/endpoints'
 import { toast } from 'react-toastify'
+import { useProjectEvents, loadedVersion } from '../utils/useProjectEvents'
 
 const ProjectDetails = () => {
   const { id } = useParams()
   const [project, setProject] = useState(null)
   const [tickets, setTickets] = useState([])
+  const [version, setVersion] = useState()
   const [loading, setLoading] = useState(true)
   const [error, setError] = useState(null)
   const [modalOpen, setModalOpen] = useState(false)
@@ -32,6 +34,7 @@ const ProjectDetails = () => {
 
       setProject(projectRes.data)
       setTickets(ticketsRes.data)
+      setVersion(loadedVersion(projectRes, ticketsRes))
     } catch (error) {
       setError(error.response?.data?.message || 'Failed to load project details')
       toast.error('Failed to load project details')
@@ -41,6 +44,52 @@ const ProjectDetails = () => {
     }
   }
 
+  const upsertTicket = (ticket) => {
+    setTickets((current) => current.some((t) => t.id === ticket.id)
+      ? current.map((t) => (t.id === ticket.id ? ticket : t))
+      : [...current, ticket])
+  }
+
+  const updateTicketInList = (ticketId, update) => {
+    setTickets((current) => current.map((t) => (t.id === ticketId ? { ...t, ...update(t) } : t)))
+  }
+
+  // Apply other users' changes as they happen instead of reloading the whole list
+  useProjectEvents(project ? id : null, version, (event) => {
+    switch (event.type) {
+      case 'TICKET_CREATED':
+      case 'TICKET_UPDATED':
+        upsertTicket(event.ticket)
+        break
+      case 'TICKET_DELETED':
+        setTickets((current) => current.filter((t) => t.id !== event.ticketId))
+        break
+      case 'TICKET_ASSIGNED':
+        updateTicketInList(event.ticketId, (t) => ({
+          status: event.status,
+          assignedDeveloperIds: [...new Set([...(t.assignedDeveloperIds || []), event.userId])],
+        }))
+        break
+      case 'TICKET_UNASSIGNED':
+        updateTicketInList(event.ticketId, (t) => ({
+          status: event.status,
+          assignedDeveloperIds: (t.assignedDeveloperIds || []).filter((userId) => userId !== event.userId),
+        }))
+        break
+      case 'COMMENT_ADDED':
+        updateTicketInList(event.ticketId, (t) => ({ commentCount: (t.commentCount || 0) + 1 }))
+        break
+      case 'COMMENT_DELETED':
+        updateTicketInList(event.ticketId, (t) => ({ commentCount: Math.max((t.commentCount || 0) - 1, 0) }))
+        break
+      case 'RESYNC':
+        fetchProjectDetails()
+        break
+      default:
+        break
+    }
+  })
+
   const toggleModal = () => setModalOpen(!modalOpen)
 
   const handleChange = (e) => {
@@ -54,14 +103,14 @@ const ProjectDetails = () => {
     e.preventDefault()
 
     try {
-      await ticketAPI.createTicket({
+      const response = await ticketAPI.createTicket({
         ...formData,
         projectId: parseInt(id),
       })
       toast.success('Ticket created successfully')
       setFormData({ title: '', description: '', priority: 'MEDIUM', type: 'BUG' })
       toggleModal()
-      fetchProjectDetails()
+      upsertTicket(response.data)
     } catch (error) {
       toast.error('Failed to create ticket')
       console.error(error)
@@ -5,12 +5,14 @@ import { ticketAPI, commentAPI, userAPI } from '../api/endpoints'
 import { useAuth } from '../context/AuthContext'
 import { toast } from 'react-toastify'
 import { timeAgo, daysSince, formatDate } from '../utils/timeUtils'
+import { useProjectEvents, loadedVersion } from '../utils/useProjectEvents'
 
 const TicketDetails = () => {
   const { id } = useParams()
   const { user, isAdmin } = useAuth()
   const [ticket, setTicket] = useState(null)
   const [comments, setComments] = useState([])
+  const [version, setVersion] = useState()
   const [loading, setLoading] = useState(true)
   const [commentContent, setCommentContent] = useState('')
   const [assignModalOpen, setAssignModalOpen] = useState(false)
@@ -33,6 +35,7 @@ const TicketDetails = () => {
 
       setTicket(ticketRes.data)
       setComments(commentsRes.data)
+      setVersion(loadedVersion(ticketRes, commentsRes))
     } catch (error) {
       toast.error('Failed to load ticket details')
       console.error(error)
@@ -41,6 +44,62 @@ const TicketDetails = () => {
     }
   }
 
+  const refreshTicket = async () => {
+    try {
+      const response = await ticketAPI.getTicketById(id)
+      setTicket(response.data)
+    } catch (error) {
+      console.error(error)
+    }
+  }
+
+  const addComment = (comment) => {
+    setComments((current) => (current.some((c) => c.id === comment.id) ? current : [...current, comment]))
+  }
+
+  // Apply changes made elsewhere (other users, other tabs) as they happen
+  useProjectEvents(ticket?.projectId, version, (event) => {
+    if (event.ticketId !== parseInt(id) && event.type !== 'RESYNC') {
+      return
+    }
+    switch (event.type) {
+      case 'TICKET_UPDATED':
+        setTicket(event.ticket)
+        break
+      case 'TICKET_DELETED':
+        toast.warning('This ticket has been deleted')
+        break
+      case 'TICKET_ASSIGNED':
+        setTicket((current) => ({
+          ...current,
+          status: event.status,
+          assignedDeveloperIds: [...new Set([...(current.assignedDeveloperIds || []), event.userId])],
+        }))
+        break
+      case 'TICKET_UNASSIGNED':
+        setTicket((current) => ({
+          ...current,
+          status: event.status,
+          assignedDeveloperIds: (current.assignedDeveloperIds || []).filter((userId) => userId !== event.userId),
+        }))
+        break
+      case 'COMMENT_ADDED':
+        addComment(event.comment)
+        break
+      case 'COMMENT_UPDATED':
+        setComments((current) => current.map((c) => (c.id === event.comment.id ? event.comment : c)))
+        break
+      case 'COMMENT_DELETED':
+        setComments((current) => current.filter((c) => c.id !== event.commentId))
+        break
+      case 'RESYNC':
+        fetchTicketDetails()
+        break
+      default:
+        break
+    }
+  })
+
   const handleCommentSubmit = async (e) => {
     e.preventDefault()
 
@@ -49,13 +108,13 @@ const TicketDetails = () => {
     }
 
     try {
-      await commentAPI.createComment({
+      const response = await commentAPI.createComment({
         content: commentContent,
         ticketId: parseInt(id),
       })
       setCommentContent('')
       toast.success('Comment added')
-      fetchTicketDetails()
+      addComment(response.data)
     } catch (error) {
       toast.error('Failed to add comment')
       console.error(error)
@@ -88,7 +147,7 @@ const TicketDetails = () => {
       toast.success('User assigned to ticket')
       setAssignModalOpen(false)
       setSelectedUserId('')
-      fetchTicketDetails()
+      refreshTicket()
     } catch (error) {
       toast.error('Failed to assign user')
       console.error(error)
@@ -99,7 +158,7 @@ const TicketDetails = () => {
     try {
       await ticketAPI.unassignDeveloper(parseInt(id), userId)
       toast.success('User unassigned from ticket')
-      fetchTicketDetails()
+      refreshTicket()
     } catch (error) {
       toast.error('Failed to unassign user')
       console.error(error)
@@ -112,12 +171,12 @@ const TicketDetails = () => {
     }
 
     try {
-      await ticketAPI.updateTicket(parseInt(id), {
+      const response = await ticketAPI.updateTicket(parseInt(id), {
         ...ticket,
         status: 'CLOSED'
       })
       toast.success('Ticket closed successfully')
-      fetchTicketDetails()
+      setTicket(response.data)
     } catch (error) {
       toast.error('Failed to close ticket')
       console.error(error)
@@ -130,12 +189,12 @@ const TicketDetails = () => {
     }
 
     try {
-      await ticketAPI.updateTicket(parseInt(id), {
+      const response = await ticketAPI.updateTicket(parseInt(id), {
         ...ticket,
         status: 'OPEN'
       })
       toast.success('Ticket reopened successfully')
-      fetchTicketDetails()
+      setTicket(response.data)
     } catch (error) {
       toast.error('Failed to reopen ticket')
       console.error(error)
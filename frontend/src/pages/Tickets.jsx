@@ -1,8 +1,8 @@
 import { useState, useEffect, useMemo } from 'react'
 import { Link, useNavigate } from 'react-router-dom'
-import { Card, CardBody, Badge, Row, Col } from 'reactstrap'
+import { Card, CardBody, Badge, Row, Col, Form, Input, Button } from 'reactstrap'
 import Pagination from '../components/common/Pagination'
-import { ticketAPI } from '../api/endpoints'
+import { ticketAPI, searchAPI } from '../api/endpoints'
 import { useAuth } from '../context/AuthContext'
 import { toast } from 'react-toastify'
 import { daysSince } from '../utils/timeUtils'
@@ -14,6 +14,10 @@ const Tickets = () => {
   const [loading, setLoading] = useState(true)
   const [currentPage, setCurrentPage] = useState(1)
   const itemsPerPage = 10
+  const [searchQuery, setSearchQuery] = useState('')
+  const [searchResults, setSearchResults] = useState(null)
+  const [searchCursor, setSearchCursor] = useState(null)
+  const [searching, setSearching] = useState(false)
 
   useEffect(() => {
     fetchTickets()
@@ -34,6 +38,41 @@ const Tickets = () => {
     }
   }
 
+  const runSearch = async (after) => {
+    setSearching(true)
+    try {
+      const response = await searchAPI.search({ q: searchQuery.trim(), after, limit: 20 })
+      setSearchResults(after ? [...searchResults, ...response.data.items] : response.data.items)
+      setSearchCursor(response.data.nextCursor)
+    } catch (error) {
+      toast.error('Search failed')
+      console.error(error)
+    } finally {
+      setSearching(false)
+    }
+  }
+
+  const handleSearch = (e) => {
+    e.preventDefault()
+    if (searchQuery.trim()) {
+      runSearch(null)
+    } else {
+      clearSearch()
+    }
+  }
+
+  const clearSearch = () => {
+    setSearchQuery('')
+    setSearchResults(null)
+    setSearchCursor(null)
+  }
+
+  // Headlines mark matched terms with <b>; render them as text with highlighted spans
+  const renderHeadline = (headline) =>
+    headline.split(/(<b>.*?<\/b>)/).map((part, i) =>
+      part.startsWith('<b>') ? <mark key={i}>{part.slice(3, -4)}</mark> : part
+    )
+
   const getTypeIcon = (type) => {
     switch (type) {
       case 'BUG':
@@ -66,7 +105,51 @@ const Tickets = () => {
         <p className="text-muted">{isAdmin() ? 'View and manage all tickets in the system' : 'Track and manage all tickets assigned to you'}</p>
       </div>
 
-      {loading ? (
+      <Form onSubmit={handleSearch} className="d-flex gap-2 mb-4">
+        <Input
+          type="search"
+          placeholder="Search tickets and comments..."
+          value={searchQuery}
+          onChange={(e) => setSearchQuery(e.target.value)}
+        />
+        <Button color="primary" type="submit" disabled={searching}>Search</Button>
+        {searchResults && <Button color="secondary" outline onClick={clearSearch}>Clear</Button>}
+      </Form>
+
+      {searchResults ? (
+        <Card className="shadow">
+          <CardBody className="p-0">
+            {searchResults.length === 0 ? (
+              <p className="text-muted p-4 mb-0">No tickets match "{searchQuery}".</p>
+            ) : (
+              <ul className="list-group list-group-flush">
+                {searchResults.map((hit) => (
+                  <li key={hit.ticketId} className="list-group-item px-4 py-3" onClick={() => navigate(`/tickets/${hit.ticketId}`)} style={{ cursor: 'pointer' }}>
+                    <div className="d-flex align-items-center gap-2">
+                      <span style={{ fontSize: '1.25rem' }}>{getTypeIcon(hit.type)}</span>
+                      <Link to={`/tickets/${hit.ticketId}`} className="text-decoration-none text-dark fw-600">
+                        {hit.title}
+                      </Link>
+                      <span className="text-muted small ms-auto">{hit.projectName}</span>
+                      <span className={`badge status-badge status-${hit.status?.toLowerCase().replace('_', '-')}`}>
+                        {hit.status?.replace('_', ' ')}
+                      </span>
+                    </div>
+                    {hit.headline && <div className="text-muted small mt-1">{renderHeadline(hit.headline)}</div>}
+                  </li>
+                ))}
+              </ul>
+            )}
+            {searchCursor && (
+              <div className="text-center p-3">
+                <Button color="secondary" outline size="sm" disabled={searching} onClick={() => runSearch(searchCursor)}>
+                  Load more
+                </Button>
+              </div>
+            )}
+          </CardBody>
+        </Card>
+      ) : loading ? (
         <div className="text-center py-5">
           <div className="spinner-border text-primary" role="status" style={{ width: '3rem', height: '3rem' }}>
             <span className="visually-hidden">Loading...</span>
@@ -0,0 +1,31 @@
+import { useEffect, useRef } from 'react'
+import { streamAPI } from '../api/endpoints'
+
+// Subscribes to a project's change feed for as long as the component is mounted. The browser's
+// EventSource reconnects by itself after network errors or when the server ends the stream. Missed
+// events are not replayed; instead a (re)opened stream starts with a RESYNC, so the handler
+// refetches, whenever the project changed since `version`, the ETag the page's data was loaded
+// with (see loadedVersion). Subscribe once that data has loaded, so an unchanged project isn't
+// fetched twice; reconnects reuse the same version and so resync after any change.
+export const useProjectEvents = (projectId, version, onEvent) => {
+  const handlerRef = useRef(onEvent)
+  handlerRef.current = onEvent
+  const versionRef = useRef(version)
+  versionRef.current = version
+
+  useEffect(() => {
+    if (!projectId) {
+      return undefined
+    }
+    const source = streamAPI.subscribeToProject(projectId, versionRef.current)
+    source.onmessage = (message) => handlerRef.current(JSON.parse(message.data))
+    return () => source.close()
+  }, [projectId])
+}
+
+// The version responses of one project were loaded at, or undefined if they differ (a change landed
+// in between) or carry no ETag, in which case the stream opens with a RESYNC
+export const loadedVersion = (...responses) => {
+  const versions = responses.map((response) => response.headers.etag)
+  return versions.every((version) => version && version === versions[0]) ? versions[0] : undefined
+}
@@ -1,19 +1,19 @@
 -- SQL Script to Make a User an Admin
 --
--- This script updates a user's authority_level to 'ADMIN'
+-- This script sets a user's authority_level to 2 (ADMIN). The column stores codes: 1 = USER, 2 = ADMIN
 -- Replace 'user@example.com' with the actual email address of the user you want to make an admin
 
 -- Option 1: Make a user admin by email
 UPDATE users
-SET authority_level = 'ADMIN'
+SET authority_level = 2  -- ADMIN
 WHERE email = 'user@example.com';
 
 -- Option 2: Make a user admin by user ID
 -- UPDATE users
--- SET authority_level = 'ADMIN'
+-- SET authority_level = 2  -- ADMIN
 -- WHERE id = 1;
 
 -- Verify the update
 SELECT id, email, first_name, last_name, authority_level
 FROM users
-WHERE authority_level = 'ADMIN';
+WHERE authority_level = 2;  -- ADMIN
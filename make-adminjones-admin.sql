@@ -1,9 +1,9 @@
 -- SQL Script to Make adminjones@gmail.com an Admin
 -- Execute this script to grant admin privileges
 
--- Update the user to ADMIN
+-- Update the user to ADMIN (authority_level code 2; 1 is USER)
 UPDATE users
-SET authority_level = 'ADMIN'
+SET authority_level = 2  -- ADMIN
 WHERE email = 'adminjones@gmail.com';
 
 -- Verify the update was successful
@@ -14,4 +14,4 @@ WHERE email = 'adminjones@gmail.com';
 -- Show all admin users
 SELECT id, email, first_name, last_name, authority_level
 FROM users
-WHERE authority_level = 'ADMIN';
+WHERE authority_level = 2;  -- ADMIN